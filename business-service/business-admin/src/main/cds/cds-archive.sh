@@ -0,0 +1,73 @@
+#!/usr/bin/env bash
+# Application class-data-sharing (AppCDS) workflow for business-admin, requires JDK 13+.
+#
+#   mvn -pl business-service/business-admin -am package
+#   business-service/business-admin/src/main/cds/cds-archive.sh train   # extract jar and dump target/cds/app.jsa
+#   business-service/business-admin/src/main/cds/cds-archive.sh run     # start with the archive
+#
+# CDS does not support classes loaded from nested jars nor from non-empty directories, so the spring boot jar
+# is extracted, BOOT-INF/classes is packaged into app.jar and the application is started with a plain jar class path,
+# the class path must be identical for train and run.
+set -euo pipefail
+
+MODULE_DIR="$(cd "$(dirname "$0")/../../.." && pwd)"
+TARGET_DIR="${MODULE_DIR}/target"
+CDS_DIR="${TARGET_DIR}/cds"
+ARCHIVE="${CDS_DIR}/app.jsa"
+MAIN_CLASS="io.naivekyo.admin.ServiceAdminApplication"
+PROFILES="${SPRING_PROFILES_ACTIVE:-prod,fast-startup}"
+
+java_major_version() {
+  java -version 2>&1 | awk -F '"' '/version/ {split($2, v, "."); print (v[1] == "1") ? v[2] : v[1]}'
+}
+
+class_path() {
+  local cp="app.jar"
+  while read -r line; do
+    # classpath.idx entries: - "BOOT-INF/lib/xxx.jar"
+    cp="${cp}:$(echo "${line}" | sed -e 's/^- "//' -e 's/"$//')"
+  done < BOOT-INF/classpath.idx
+  echo "${cp}"
+}
+
+extract() {
+  rm -rf "${CDS_DIR}" && mkdir -p "${CDS_DIR}"
+  (cd "${CDS_DIR}" && jar -xf "${TARGET_DIR}/business-admin.jar" && jar -cf app.jar -C BOOT-INF/classes .)
+}
+
+if [ "$(java_major_version)" -lt 13 ]; then
+  echo "dynamic CDS archive requires JDK 13+, current: $(java_major_version)" >&2
+  exit 1
+fi
+
+case "${1:-}" in
+  train)
+    extract
+    cd "${CDS_DIR}"
+    # training run: start until ready then exit, loaded classes are dumped at exit
+    java -XX:ArchiveClassesAtExit="${ARCHIVE}" \
+      -Dspring.profiles.active="${PROFILES}" \
+      -Dnaivekyo.startup.report=true -Dnaivekyo.startup.exit-on-ready=true \
+      -cp "$(class_path)" "${MAIN_CLASS}"
+    if [ ! -s "${ARCHIVE}" ]; then
+      echo "CDS archive was not created: ${ARCHIVE}" >&2
+      exit 1
+    fi
+    echo "CDS archive: ${ARCHIVE}"
+    ;;
+  run)
+    if [ ! -s "${ARCHIVE}" ]; then
+      echo "CDS archive not found, run '$0 train' first: ${ARCHIVE}" >&2
+      exit 1
+    fi
+    cd "${CDS_DIR}"
+    shift
+    exec java -XX:SharedArchiveFile="${ARCHIVE}" -Xshare:auto \
+      -Dspring.profiles.active="${PROFILES}" \
+      -cp "$(class_path)" "${MAIN_CLASS}" "$@"
+    ;;
+  *)
+    echo "usage: $0 train|run [args...]" >&2
+    exit 1
+    ;;
+esac
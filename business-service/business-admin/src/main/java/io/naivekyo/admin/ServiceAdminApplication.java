@@ -2,6 +2,11 @@ package io.naivekyo.admin;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Profiles;
 
 /**
  * <p>
@@ -12,7 +17,37 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  */
 @SpringBootApplication
 public class ServiceAdminApplication {
+
     public static void main(String[] args) {
-        SpringApplication.run(ServiceAdminApplication.class, args);
+        SpringApplication application = new SpringApplication(ServiceAdminApplication.class);
+        application.addListeners(new StartupRecordingListener(application));
+        application.run(args);
+    }
+
+    /**
+     * startup timeline for StartupTimelineReporter and actuator startup endpoint, only buffered with the fast-startup
+     * profile or naivekyo.startup.report=true, otherwise every startup step is a no-op. <br/>
+     * decided once the environment is prepared, the application context created afterwards records all its steps.
+     */
+    static class StartupRecordingListener implements ApplicationListener<ApplicationEnvironmentPreparedEvent> {
+
+        /**
+         * max buffered startup steps, steps beyond it are not recorded.
+         */
+        private static final int STARTUP_STEP_CAPACITY = 4096;
+
+        private final SpringApplication application;
+
+        StartupRecordingListener(SpringApplication application) {
+            this.application = application;
+        }
+
+        @Override
+        public void onApplicationEvent(ApplicationEnvironmentPreparedEvent event) {
+            ConfigurableEnvironment environment = event.getEnvironment();
+            if (environment.acceptsProfiles(Profiles.of("fast-startup"))
+                    || environment.getProperty("naivekyo.startup.report", Boolean.class, false))
+                this.application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        }
     }
 }
@@ -0,0 +1,55 @@
+package io.naivekyo.admin.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.ILoggerFactory;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * <p>
+ *     publish {@link MeteredAsyncAppender} metrics to actuator: <br/>
+ *     logback.async.dropped (dropped events), logback.async.queue.size (events waiting in queue).
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        ILoggerFactory loggerFactory = LoggerFactory.getILoggerFactory();
+        if (!(loggerFactory instanceof LoggerContext))
+            return;
+        Map<MeteredAsyncAppender, Boolean> appenders = new IdentityHashMap<>();
+        for (Logger logger : ((LoggerContext) loggerFactory).getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> iterator = logger.iteratorForAppenders();
+            while (iterator.hasNext()) {
+                Appender<ILoggingEvent> appender = iterator.next();
+                if (appender instanceof MeteredAsyncAppender)
+                    appenders.put((MeteredAsyncAppender) appender, Boolean.TRUE);
+            }
+        }
+        for (MeteredAsyncAppender appender : appenders.keySet()) {
+            FunctionCounter.builder("logback.async.dropped", appender, MeteredAsyncAppender::getDroppedCount)
+                    .tag("appender", appender.getName())
+                    .description("events dropped by async appender")
+                    .register(registry);
+            Gauge.builder("logback.async.queue.size", appender, MeteredAsyncAppender::getNumberOfElementsInQueue)
+                    .tag("appender", appender.getName())
+                    .description("events waiting in async appender queue")
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package io.naivekyo.admin.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ *     {@link AsyncAppender} which counts the events dropped by discarding threshold or by a full queue.
+ * </p>
+ * <p>
+ *     logback don't report the events dropped by a full queue when <code>neverBlock</code> is true,
+ *     so they are counted by checking the remaining capacity before enqueue, it's an approximate value under contention.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class MeteredAsyncAppender extends AsyncAppender {
+
+    private final LongAdder droppedCount = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent eventObject) {
+        // events discarded by threshold are counted in isDiscardable
+        if (this.isNeverBlock() && this.isStarted() && this.getRemainingCapacity() == 0
+                && !(this.getDiscardingThreshold() > 0 && super.isDiscardable(eventObject)))
+            this.droppedCount.increment();
+        super.append(eventObject);
+    }
+
+    /**
+     * only called when the queue is below the discarding threshold.
+     */
+    @Override
+    protected boolean isDiscardable(ILoggingEvent event) {
+        boolean discardable = super.isDiscardable(event);
+        if (discardable)
+            this.droppedCount.increment();
+        return discardable;
+    }
+
+    /**
+     * @return number of dropped events since appender started
+     */
+    public long getDroppedCount() {
+        return this.droppedCount.sum();
+    }
+}
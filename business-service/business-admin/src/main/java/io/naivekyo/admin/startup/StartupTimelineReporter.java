@@ -0,0 +1,85 @@
+package io.naivekyo.admin.startup;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * <p>
+ *     log startup timeline when application is ready: jvm uptime, slowest startup steps recorded by
+ *     {@link BufferingApplicationStartup}, and time-to-first-request. <br/>
+ *     the full timeline is also available from actuator startup endpoint. <br/>
+ *     with naivekyo.startup.exit-on-ready=true the application exits once ready, used by CDS archive training run.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@Component
+@ConditionalOnProperty(prefix = "naivekyo.startup", name = "report", havingValue = "true")
+public class StartupTimelineReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimelineReporter.class);
+
+    private final AtomicBoolean firstRequestHandled = new AtomicBoolean();
+
+    @Value("${naivekyo.startup.report-top:20}")
+    private int reportTop;
+
+    @Value("${naivekyo.startup.exit-on-ready:false}")
+    private boolean exitOnReady;
+
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        ConfigurableApplicationContext context = event.getApplicationContext();
+        log.info("application ready, jvm uptime: {} ms, bean definitions: {}.",
+                ManagementFactory.getRuntimeMXBean().getUptime(), context.getBeanDefinitionCount());
+        ApplicationStartup applicationStartup = context.getApplicationStartup();
+        if (applicationStartup instanceof BufferingApplicationStartup) {
+            StartupTimeline timeline = ((BufferingApplicationStartup) applicationStartup).getBufferedTimeline();
+            List<StartupTimeline.TimelineEvent> slowest = timeline.getEvents().stream()
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(this.reportTop)
+                    .collect(Collectors.toList());
+            StringBuilder report = new StringBuilder();
+            for (StartupTimeline.TimelineEvent timelineEvent : slowest) {
+                StartupStep step = timelineEvent.getStartupStep();
+                report.append(String.format("%n%8d ms  %s", timelineEvent.getDuration().toMillis(), step.getName()));
+                for (StartupStep.Tag tag : step.getTags())
+                    report.append(' ').append(tag.getKey()).append('=').append(tag.getValue());
+            }
+            log.info("slowest {} of {} startup steps (nested steps include their children):{}",
+                    slowest.size(), timeline.getEvents().size(), report);
+        } else {
+            log.info("startup steps are not recorded, use BufferingApplicationStartup to get the timeline.");
+        }
+        if (this.exitOnReady) {
+            log.info("naivekyo.startup.exit-on-ready is enabled, exiting.");
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (!this.firstRequestHandled.get() && this.firstRequestHandled.compareAndSet(false, true))
+            log.info("first request {} handled {} ms after jvm start, processing time: {} ms.",
+                    event.getRequestUrl(), ManagementFactory.getRuntimeMXBean().getUptime(),
+                    event.getProcessingTimeMillis());
+    }
+}
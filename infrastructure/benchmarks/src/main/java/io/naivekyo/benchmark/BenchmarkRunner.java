@@ -0,0 +1,40 @@
+package io.naivekyo.benchmark;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>
+ *     benchmarks entry, accept the same options as JMH command line. <br/>
+ *     results are written to jmh-result.json by default, so they can be compared between releases,
+ *     use <code>-rf</code> and <code>-rff</code> to change the format and file.
+ * </p>
+ * <pre>
+ *     java -jar infrastructure/benchmarks/target/benchmarks.jar [regexp] [jmh options]
+ * </pre>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class BenchmarkRunner {
+
+    private static final String DEFAULT_RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.shouldHelp() || cli.shouldList() || cli.shouldListWithParams()
+                || cli.shouldListProfilers() || cli.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(cli);
+        if (!cli.getResultFormat().hasValue())
+            builder.resultFormat(ResultFormatType.JSON);
+        if (!cli.getResult().hasValue())
+            builder.result(DEFAULT_RESULT_FILE);
+        new Runner(builder.build()).run();
+    }
+}
@@ -0,0 +1,95 @@
+package io.naivekyo.benchmark;
+
+import io.naivekyo.core.util.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     {@link DateUtils} format and parse, the <code>baseline*</code> methods build a new
+ *     {@link DateTimeFormatter} per call, which is how DateUtils worked before the formatter cache.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private static final String CUSTOM_PATTERN = "yyyy/MM/dd HH:mm";
+
+    private final LocalDateTime dateTime = LocalDateTime.of(2023, 4, 18, 13, 45, 30);
+
+    private final LocalDate date = this.dateTime.toLocalDate();
+
+    private final String dateTimeText = "2023-04-18 13:45:30";
+
+    private final String dateText = "2023-04-18";
+
+    private final String customText = "2023/04/18 13:45";
+
+    // ================================ format ========================
+
+    @Benchmark
+    public String formatDateTime() {
+        return DateUtils.dateTimeFormat(this.dateTime);
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return DateUtils.dateFormat(this.date);
+    }
+
+    @Benchmark
+    public String formatDateTimeCustomPattern() {
+        return DateUtils.dateTimeFormat(this.dateTime, CUSTOM_PATTERN);
+    }
+
+    @Benchmark
+    public String formatNow() {
+        return DateUtils.dateTimeFormat();
+    }
+
+    @Benchmark
+    public String baselineFormatDateTime() {
+        return DateTimeFormatter.ofPattern(DateUtils.DEFAULT_DATETIME_FORMAT).format(this.dateTime);
+    }
+
+    // ================================ parse ========================
+
+    @Benchmark
+    public LocalDateTime parseDateTime() {
+        return DateUtils.parseLocalDateTime(this.dateTimeText);
+    }
+
+    @Benchmark
+    public LocalDate parseDate() {
+        return DateUtils.parseLocalDate(this.dateText);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTimeCustomPattern() {
+        return DateUtils.parseLocalDateTime(this.customText, CUSTOM_PATTERN);
+    }
+
+    @Benchmark
+    public LocalDateTime baselineParseDateTime() {
+        return LocalDateTime.parse(this.dateTimeText, DateTimeFormatter.ofPattern(DateUtils.DEFAULT_DATETIME_FORMAT));
+    }
+}
@@ -0,0 +1,63 @@
+package io.naivekyo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.naivekyo.config.EnhancedJacksonAutoConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     serialize and deserialize {@link OrderDTO} with the {@link ObjectMapper} of {@link EnhancedJacksonAutoConfiguration}.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBenchmark {
+
+    @Param({"enhanced", "formatter"})
+    public String mapperType;
+
+    @Param({"1", "20"})
+    public int itemCount;
+
+    private ObjectMapper objectMapper;
+
+    private OrderDTO order;
+
+    private byte[] json;
+
+    @Setup
+    public void setup() throws IOException {
+        this.objectMapper = ObjectMappers.create(this.mapperType);
+        this.order = OrderDTO.sample(this.itemCount);
+        this.json = this.objectMapper.writeValueAsBytes(this.order);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.order);
+    }
+
+    @Benchmark
+    public OrderDTO deserialize() throws IOException {
+        return this.objectMapper.readValue(this.json, OrderDTO.class);
+    }
+}
@@ -0,0 +1,60 @@
+package io.naivekyo.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import io.naivekyo.config.EnhancedJacksonAutoConfiguration;
+import io.naivekyo.jackson.DateTimeCodecs;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.format.DateTimeFormatter;
+
+/**
+ * <p>
+ *     build {@link ObjectMapper} the same way as spring boot does with {@link EnhancedJacksonAutoConfiguration}.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+final class ObjectMappers {
+
+    private ObjectMappers() {
+    }
+
+    /**
+     * @param type  enhanced: customized by {@link EnhancedJacksonAutoConfiguration}; <br/>
+     *              formatter: {@link DateTimeFormatter} based jsr310 (de)serializers, for comparison.
+     */
+    static ObjectMapper create(String type) {
+        EnhancedJacksonAutoConfiguration configuration = new EnhancedJacksonAutoConfiguration();
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        // spring boot default
+        builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        builder.modulesToInstall(configuration.javaTimeModule(), configuration.jdk8Module());
+        if ("enhanced".equals(type)) {
+            configuration.jacksonCustomizer().customize(builder);
+        } else if ("formatter".equals(type)) {
+            DateTimeFormatter dateDTF = DateTimeFormatter.ofPattern(DateTimeCodecs.DATE_PATTERN);
+            DateTimeFormatter dateTimeDTF = DateTimeFormatter.ofPattern(DateTimeCodecs.DATE_TIME_PATTERN);
+            builder.serializers(new LocalDateSerializer(dateDTF), new LocalDateTimeSerializer(dateTimeDTF));
+            builder.deserializers(new LocalDateDeserializer(dateDTF), new LocalDateTimeDeserializer(dateTimeDTF));
+        } else {
+            throw new IllegalArgumentException("unknown object mapper type: " + type);
+        }
+        return builder.build();
+    }
+
+    /**
+     * copy of the given mapper with default typing, the same as mybatis redis cache serializer.
+     */
+    static ObjectMapper typed(ObjectMapper objectMapper) {
+        ObjectMapper typedObjectMapper = objectMapper.copy();
+        typedObjectMapper.activateDefaultTyping(typedObjectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return typedObjectMapper;
+    }
+}
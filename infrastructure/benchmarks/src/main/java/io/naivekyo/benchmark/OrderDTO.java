@@ -0,0 +1,196 @@
+package io.naivekyo.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ *     representative timestamp-heavy business payload used by serialization benchmarks.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class OrderDTO {
+
+    private Long id;
+
+    private String orderNo;
+
+    private Integer status;
+
+    private BigDecimal amount;
+
+    private LocalDate bizDate;
+
+    private LocalDateTime payTime;
+
+    private LocalDateTime createTime;
+
+    private LocalDateTime updateTime;
+
+    private List<OrderItemDTO> items;
+
+    public static OrderDTO sample(int itemCount) {
+        LocalDateTime now = LocalDateTime.of(2023, 4, 18, 13, 45, 30);
+        OrderDTO order = new OrderDTO();
+        order.setId(1648193018491289601L);
+        order.setOrderNo("NO202304181345300001");
+        order.setStatus(2);
+        order.setAmount(new BigDecimal("1024.50"));
+        order.setBizDate(now.toLocalDate());
+        order.setPayTime(now.plusMinutes(3));
+        order.setCreateTime(now);
+        order.setUpdateTime(now.plusMinutes(5));
+        List<OrderItemDTO> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            OrderItemDTO item = new OrderItemDTO();
+            item.setId(1648193018491289602L + i);
+            item.setSkuName("sku-" + i);
+            item.setQuantity(i + 1);
+            item.setPrice(new BigDecimal("99.90"));
+            item.setCreateTime(now);
+            item.setUpdateTime(now.plusSeconds(i));
+            items.add(item);
+        }
+        order.setItems(items);
+        return order;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getOrderNo() {
+        return orderNo;
+    }
+
+    public void setOrderNo(String orderNo) {
+        this.orderNo = orderNo;
+    }
+
+    public Integer getStatus() {
+        return status;
+    }
+
+    public void setStatus(Integer status) {
+        this.status = status;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public LocalDate getBizDate() {
+        return bizDate;
+    }
+
+    public void setBizDate(LocalDate bizDate) {
+        this.bizDate = bizDate;
+    }
+
+    public LocalDateTime getPayTime() {
+        return payTime;
+    }
+
+    public void setPayTime(LocalDateTime payTime) {
+        this.payTime = payTime;
+    }
+
+    public LocalDateTime getCreateTime() {
+        return createTime;
+    }
+
+    public void setCreateTime(LocalDateTime createTime) {
+        this.createTime = createTime;
+    }
+
+    public LocalDateTime getUpdateTime() {
+        return updateTime;
+    }
+
+    public void setUpdateTime(LocalDateTime updateTime) {
+        this.updateTime = updateTime;
+    }
+
+    public List<OrderItemDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<OrderItemDTO> items) {
+        this.items = items;
+    }
+
+    public static class OrderItemDTO {
+
+        private Long id;
+
+        private String skuName;
+
+        private Integer quantity;
+
+        private BigDecimal price;
+
+        private LocalDateTime createTime;
+
+        private LocalDateTime updateTime;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getSkuName() {
+            return skuName;
+        }
+
+        public void setSkuName(String skuName) {
+            this.skuName = skuName;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+
+        public LocalDateTime getCreateTime() {
+            return createTime;
+        }
+
+        public void setCreateTime(LocalDateTime createTime) {
+            this.createTime = createTime;
+        }
+
+        public LocalDateTime getUpdateTime() {
+            return updateTime;
+        }
+
+        public void setUpdateTime(LocalDateTime updateTime) {
+            this.updateTime = updateTime;
+        }
+    }
+}
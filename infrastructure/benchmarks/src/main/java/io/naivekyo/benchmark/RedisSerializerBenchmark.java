@@ -0,0 +1,76 @@
+package io.naivekyo.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.naivekyo.config.EnhancedRedisCacheAutoConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     {@link GenericJackson2JsonRedisSerializer} round-trip of {@link OrderDTO}. <br/>
+ *     untyped: value serializer of {@link EnhancedRedisCacheAutoConfiguration}; <br/>
+ *     typed: default typing enabled, used by mybatis redis cache.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisSerializerBenchmark {
+
+    @Param({"untyped", "typed"})
+    public String serializerType;
+
+    @Param({"1", "20"})
+    public int itemCount;
+
+    private GenericJackson2JsonRedisSerializer serializer;
+
+    private OrderDTO order;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = ObjectMappers.create("enhanced");
+        if ("typed".equals(this.serializerType))
+            objectMapper = ObjectMappers.typed(objectMapper);
+        this.serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        this.order = OrderDTO.sample(this.itemCount);
+        this.bytes = this.serializer.serialize(this.order);
+        // fail fast instead of measuring a broken codec, typed values must come back as the original type
+        if ("typed".equals(this.serializerType) && !(this.serializer.deserialize(this.bytes) instanceof OrderDTO))
+            throw new IllegalStateException("typed round trip did not restore " + OrderDTO.class.getSimpleName());
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return this.serializer.serialize(this.order);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return this.serializer.deserialize(this.bytes);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return this.serializer.deserialize(this.serializer.serialize(this.order));
+    }
+}
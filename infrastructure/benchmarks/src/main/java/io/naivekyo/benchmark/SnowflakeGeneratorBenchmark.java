@@ -0,0 +1,60 @@
+package io.naivekyo.benchmark;
+
+import io.naivekyo.core.support.SnowflakeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     {@link SnowflakeGenerator#getNextId()} throughput under contention,
+ *     the generator is static so every parameter combination runs in its own fork.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnowflakeGeneratorBenchmark {
+
+    @Param({"false", "true"})
+    public boolean useCachedClock;
+
+    @Setup
+    public void setup() {
+        SnowflakeGenerator.initGenerator(1L, 1L, this.useCachedClock);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public long nextId1Thread() {
+        return SnowflakeGenerator.getNextId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long nextId4Threads() {
+        return SnowflakeGenerator.getNextId();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long nextIdMaxThreads() {
+        return SnowflakeGenerator.getNextId();
+    }
+}
@@ -0,0 +1,185 @@
+package io.naivekyo.core.support;
+
+import io.naivekyo.core.util.DateUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     coarse-grained system clock shared by hot paths which don't need an exact "now".
+ * </p>
+ * <p>
+ *     a daemon thread recompute the date-time objects and the default formatted strings once per second,
+ *     aligned to the second boundary, so they have second resolution. <br/>
+ *     the millisecond tick used by {@link #currentTimeMillis()} is opt-in ({@link #startMillisTick()},
+ *     started by {@link SnowflakeGenerator.CachedClockSnowflakeAlgoImpl}), without it that method reads the system clock.
+ * </p>
+ * <p>
+ *     when the millisecond tick is running and the second tick falls behind it by more than {@value #STALE_MILLIS} ms
+ *     (e.g. the scheduled task is delayed), the second resolution readers recompute the values from the millisecond tick.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public final class CachedClock {
+
+    private static final Logger log = LoggerFactory.getLogger(CachedClock.class);
+
+    private static final long MILLIS_TICK = 1L;
+
+    private static final long SECOND_TICK = 1000L;
+
+    private static final long STALE_MILLIS = 2000L;
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "naivekyo-cached-clock");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile boolean millisTickStarted = false;
+
+    // timestamp of the latest tick, millisecond or second
+    private static volatile long tickMillis = System.currentTimeMillis();
+
+    private static volatile Snapshot snapshot = new Snapshot(tickMillis);
+
+    static {
+        scheduleSecondTick();
+    }
+
+    private CachedClock() {
+    }
+
+    /**
+     * start the millisecond tick of {@link #currentTimeMillis()}, it wakes up a thread every millisecond
+     * for the lifetime of the JVM, so only enable it for really hot callers. calling it again has no effect.
+     */
+    public static void startMillisTick() {
+        if (millisTickStarted)
+            return;
+        synchronized (CachedClock.class) {
+            if (millisTickStarted)
+                return;
+            tickMillis = System.currentTimeMillis();
+            SCHEDULER.scheduleAtFixedRate(CachedClock::millisTick, MILLIS_TICK, MILLIS_TICK, TimeUnit.MILLISECONDS);
+            millisTickStarted = true;
+        }
+    }
+
+    private static void millisTick() {
+        // an exception escaping from the task would cancel all subsequent ticks
+        try {
+            tickMillis = System.currentTimeMillis();
+        } catch (Throwable e) {
+            log.error("failed to refresh cached clock", e);
+        }
+    }
+
+    /**
+     * recompute the second resolution values, then schedule itself for the next second boundary.
+     * one-shot scheduling instead of a fixed rate keeps the tick aligned even if a run is delayed.
+     */
+    private static void secondTick() {
+        try {
+            long now = System.currentTimeMillis();
+            if (!millisTickStarted)
+                tickMillis = now;
+            // the second may be unchanged if the task runs early, or go backwards if the clock is adjusted
+            if (now / 1000L != snapshot.epochSecond)
+                snapshot = new Snapshot(now);
+        } catch (Throwable e) {
+            log.error("failed to refresh cached clock", e);
+        } finally {
+            scheduleSecondTick();
+        }
+    }
+
+    private static void scheduleSecondTick() {
+        long delay = SECOND_TICK - System.currentTimeMillis() % SECOND_TICK;
+        SCHEDULER.schedule(CachedClock::secondTick, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private static Snapshot snapshot() {
+        Snapshot current = snapshot;
+        long now = tickMillis;
+        if (now - current.epochSecond * 1000L < STALE_MILLIS)
+            return current;
+        current = new Snapshot(now);
+        snapshot = current;
+        return current;
+    }
+
+    /**
+     * cached system timestamp in milliseconds, may lag behind the system clock by about 1 ms.
+     * the system clock is read directly until {@link #startMillisTick()} is called.
+     * @return timestamp
+     */
+    public static long currentTimeMillis() {
+        return millisTickStarted ? tickMillis : System.currentTimeMillis();
+    }
+
+    /**
+     * current date-time of system default zone, second resolution.
+     * @return {@link LocalDateTime}
+     */
+    public static LocalDateTime now() {
+        return snapshot().dateTime;
+    }
+
+    /**
+     * current date of system default zone.
+     * @return {@link LocalDate}
+     */
+    public static LocalDate today() {
+        return snapshot().date;
+    }
+
+    /**
+     * current date formatted with {@link DateUtils#DEFAULT_DATE_FORMAT}.
+     * @return yyyy-MM-dd
+     */
+    public static String formattedDate() {
+        return snapshot().formattedDate;
+    }
+
+    /**
+     * current date-time formatted with {@link DateUtils#DEFAULT_DATETIME_FORMAT}.
+     * @return yyyy-MM-dd HH:mm:ss
+     */
+    public static String formattedDateTime() {
+        return snapshot().formattedDateTime;
+    }
+
+    /**
+     * immutable second resolution values, published as a whole so that readers never see a mixed state.
+     */
+    private static final class Snapshot {
+
+        final long epochSecond;
+
+        final LocalDateTime dateTime;
+
+        final LocalDate date;
+
+        final String formattedDate;
+
+        final String formattedDateTime;
+
+        Snapshot(long timestamp) {
+            this.epochSecond = timestamp / 1000L;
+            this.dateTime = LocalDateTime.ofInstant(Instant.ofEpochSecond(this.epochSecond), ZoneId.systemDefault());
+            this.date = this.dateTime.toLocalDate();
+            this.formattedDate = DateUtils.dateFormat(this.date);
+            this.formattedDateTime = DateUtils.dateTimeFormat(this.dateTime);
+        }
+    }
+}
@@ -34,10 +34,22 @@ public class SnowflakeGenerator {
      * @param machineId
      */
     public static void initGenerator(long datacenterId, long machineId) {
+        initGenerator(datacenterId, machineId, false);
+    }
+
+    /**
+     * you must call this method once before consume snowflake-id
+     * @param datacenterId
+     * @param machineId
+     * @param useCachedClock read timestamp from {@link CachedClock} instead of the system clock
+     */
+    public static void initGenerator(long datacenterId, long machineId, boolean useCachedClock) {
         if (snowflakeGenerator == null) {
             synchronized (SnowflakeAlgoImpl.class) {
                 if (snowflakeGenerator == null) {
-                    snowflakeGenerator = new SnowflakeAlgoImpl(datacenterId, machineId);
+                    snowflakeGenerator = useCachedClock
+                            ? new CachedClockSnowflakeAlgoImpl(datacenterId, machineId)
+                            : new SnowflakeAlgoImpl(datacenterId, machineId);
                     log.info("snowflake generator initialize successful.");
                 }
             }
@@ -200,4 +212,20 @@ public class SnowflakeGenerator {
         }
 
     }
+
+    /**
+     * snowflake implementation which read timestamp from {@link CachedClock}.
+     */
+    public static class CachedClockSnowflakeAlgoImpl extends SnowflakeAlgoImpl {
+
+        public CachedClockSnowflakeAlgoImpl(long datacenterId, long machineId) {
+            super(datacenterId, machineId);
+            CachedClock.startMillisTick();
+        }
+
+        @Override
+        protected long getCurrentTimestamp() {
+            return CachedClock.currentTimeMillis();
+        }
+    }
 }
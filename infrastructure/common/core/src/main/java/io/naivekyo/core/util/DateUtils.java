@@ -1,7 +1,11 @@
 package io.naivekyo.core.util;
 
+import io.naivekyo.core.support.CachedClock;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -9,6 +13,8 @@ import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalUnit;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 /**
@@ -24,12 +30,26 @@ public class DateUtils {
 
 	public static final String DEFAULT_DATETIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
 
+	/**
+	 * 格式化器缓存, 以格式字符串为 key 不限容量, 格式字符串应为常量而不是外部输入
+	 */
+	private static final Map<String, DateTimeFormatter> FORMATTER_CACHE = new ConcurrentHashMap<>();
+
+	/**
+	 * 默认格式快速路径复用的字符缓冲区, 长度为 {@link #DEFAULT_DATETIME_FORMAT} 的长度
+	 */
+	private static final ThreadLocal<char[]> FORMAT_BUFFER = ThreadLocal.withInitial(() -> new char[19]);
+
+	private static final DateTimeFormatter DEFAULT_DATE_FORMATTER = getFormatter(DEFAULT_DATE_FORMAT);
+
+	private static final DateTimeFormatter DEFAULT_DATETIME_FORMATTER = getFormatter(DEFAULT_DATETIME_FORMAT);
+
 	/**
 	 * 获取当天日期所属年份
 	 * @return year 年份数值
 	 */
 	public static Integer getYear() {
-		return LocalDate.now().getYear();
+		return CachedClock.today().getYear();
 	}
 
 	/**
@@ -37,7 +57,7 @@ public class DateUtils {
 	 * @return month 数值类型 1 - 12
 	 */
 	public static Integer getMonth() {
-		return LocalDate.now().getMonthValue();
+		return CachedClock.today().getMonthValue();
 	}
 
 	// ================================ format LocalDate ========================
@@ -48,7 +68,7 @@ public class DateUtils {
 	 * @throws java.time.DateTimeException 格式化失败则抛出异常
 	 */
 	public static String dateFormat() {
-		return LocalDate.now().format(getFormatter(DEFAULT_DATE_FORMAT));
+		return CachedClock.formattedDate();
 	}
 
 	/**
@@ -57,7 +77,7 @@ public class DateUtils {
 	 * @throws java.time.DateTimeException 格式化失败则抛出异常  
 	 */
 	public static String dateFormat(String formatStr) {
-		return LocalDate.now().format(getFormatter(formatStr));
+		return CachedClock.today().format(getFormatter(formatStr));
 	}
 
 	/**
@@ -68,6 +88,8 @@ public class DateUtils {
 	 * @return				字符串
 	 */
 	public static String dateFormat(LocalDate date, String formatStr) {
+		if (DEFAULT_DATE_FORMAT.equals(formatStr))
+			return formatDefaultDate(date);
 		return date.format(getFormatter(formatStr));
 	}
 
@@ -81,7 +103,7 @@ public class DateUtils {
 	 * @return		字符串
 	 */
 	public static String dateFormat(LocalDate date) {
-		return date.format(getFormatter(DEFAULT_DATE_FORMAT));
+		return formatDefaultDate(date);
 	}
 
 	// ================================ parse LocalDate ========================
@@ -104,18 +126,20 @@ public class DateUtils {
 	 * @return {@link LocalDate}
 	 */
 	public static LocalDate parseLocalDate(String date, String pattern) {
+		if (DEFAULT_DATE_FORMAT.equals(pattern))
+			return parseDefaultDate(date);
 		return LocalDate.parse(date, getFormatter(pattern));
 	}
 
 	// ================================ format LocalDateTime ========================
 
 	/**
-	 * 获取当前时间字符串
+	 * 获取当前时间字符串, 取自 {@link CachedClock}, 精确到秒
 	 * 默认格式: yyyy-MM-dd HH:mm:ss
 	 * @throws java.time.DateTimeException 时间格式化异常
 	 */
 	public static String dateTimeFormat() {
-		return LocalDateTime.now().format(getFormatter(DEFAULT_DATETIME_FORMAT));
+		return CachedClock.formattedDateTime();
 	}
 
 	/**
@@ -134,7 +158,7 @@ public class DateUtils {
 	 * @throws java.time.DateTimeException 时间格式化异常   
 	 */
 	public static String dateTimeFormat(LocalDateTime dateTime) {
-		return getFormatter(DEFAULT_DATETIME_FORMAT).format(dateTime);
+		return formatDefaultDateTime(dateTime);
 	}
 
 	/**
@@ -145,6 +169,8 @@ public class DateUtils {
 	 * @throws java.time.DateTimeException 时间格式化异常   
 	 */
 	public static String dateTimeFormat(LocalDateTime dateTime, String pattern) {
+		if (DEFAULT_DATETIME_FORMAT.equals(pattern))
+			return formatDefaultDateTime(dateTime);
 		return getFormatter(pattern).format(dateTime);
 	}
 
@@ -168,6 +194,8 @@ public class DateUtils {
 	 * @throws java.time.format.DateTimeParseException 解析异常
 	 */
 	public static LocalDateTime parseLocalDateTime(String date, String pattern) {
+		if (DEFAULT_DATETIME_FORMAT.equals(pattern))
+			return parseDefaultDateTime(date);
 		return LocalDateTime.parse(date, getFormatter(pattern));
 	}
 
@@ -208,13 +236,124 @@ public class DateUtils {
 	}
 
 	/**
-	 * 获得特定格式的时间格式化器
+	 * 获得特定格式的时间格式化器, {@link DateTimeFormatter} 是线程安全的, 按格式字符串缓存
 	 *
 	 * @param formatStr 格式字符串
 	 * @return	{@link DateTimeFormatter}
 	 */
 	private static DateTimeFormatter getFormatter(String formatStr) {
-		return DateTimeFormatter.ofPattern(formatStr);
+		DateTimeFormatter formatter = FORMATTER_CACHE.get(formatStr);
+		if (formatter != null)
+			return formatter;
+		return FORMATTER_CACHE.computeIfAbsent(formatStr, DateTimeFormatter::ofPattern);
+	}
+
+	// ====================================== default pattern fast path ============================
+
+	/**
+	 * 以 {@link #DEFAULT_DATE_FORMAT} 格式化日期, 不经过 {@link DateTimeFormatter}
+	 * 年份超出 [1, 9999] 时交给格式化器处理, 保证输出一致
+	 */
+	private static String formatDefaultDate(LocalDate date) {
+		int year = date.getYear();
+		if (year < 1 || year > 9999)
+			return DEFAULT_DATE_FORMATTER.format(date);
+		char[] buf = FORMAT_BUFFER.get();
+		writeDate(buf, year, date.getMonthValue(), date.getDayOfMonth());
+		return new String(buf, 0, 10);
+	}
+
+	/**
+	 * 以 {@link #DEFAULT_DATETIME_FORMAT} 格式化时间, 不经过 {@link DateTimeFormatter}
+	 * 年份超出 [1, 9999] 时交给格式化器处理, 保证输出一致
+	 */
+	private static String formatDefaultDateTime(LocalDateTime dateTime) {
+		int year = dateTime.getYear();
+		if (year < 1 || year > 9999)
+			return DEFAULT_DATETIME_FORMATTER.format(dateTime);
+		char[] buf = FORMAT_BUFFER.get();
+		writeDate(buf, year, dateTime.getMonthValue(), dateTime.getDayOfMonth());
+		buf[10] = ' ';
+		write2Digits(buf, 11, dateTime.getHour());
+		buf[13] = ':';
+		write2Digits(buf, 14, dateTime.getMinute());
+		buf[16] = ':';
+		write2Digits(buf, 17, dateTime.getSecond());
+		return new String(buf, 0, 19);
+	}
+
+	/**
+	 * 解析 {@link #DEFAULT_DATE_FORMAT} 格式的字符串, 格式不规范或字段需要 SMART 模式修正时
+	 * 交给格式化器处理, 保持原有的解析语义和异常类型
+	 */
+	private static LocalDate parseDefaultDate(String date) {
+		if (date != null && date.length() == 10) {
+			int year = parseDate(date);
+			if (year > 0)
+				return LocalDate.of(year, read2Digits(date, 5), read2Digits(date, 8));
+		}
+		return LocalDate.parse(date, DEFAULT_DATE_FORMATTER);
+	}
+
+	/**
+	 * 解析 {@link #DEFAULT_DATETIME_FORMAT} 格式的字符串, 格式不规范或字段需要 SMART 模式修正时
+	 * 交给格式化器处理, 保持原有的解析语义和异常类型
+	 */
+	private static LocalDateTime parseDefaultDateTime(String dateTime) {
+		if (dateTime != null && dateTime.length() == 19 && dateTime.charAt(10) == ' '
+				&& dateTime.charAt(13) == ':' && dateTime.charAt(16) == ':') {
+			int year = parseDate(dateTime);
+			int hour = read2Digits(dateTime, 11);
+			int minute = read2Digits(dateTime, 14);
+			int second = read2Digits(dateTime, 17);
+			if (year > 0 && hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59)
+				return LocalDateTime.of(year, read2Digits(dateTime, 5), read2Digits(dateTime, 8), hour, minute, second);
+		}
+		return LocalDateTime.parse(dateTime, DEFAULT_DATETIME_FORMATTER);
+	}
+
+	/**
+	 * 校验字符串前 10 位是否为合法的 yyyy-MM-dd
+	 * @return 年份, 不合法时返回 -1
+	 */
+	private static int parseDate(String str) {
+		if (str.charAt(4) != '-' || str.charAt(7) != '-')
+			return -1;
+		int year = read2Digits(str, 0) * 100 + read2Digits(str, 2);
+		int month = read2Digits(str, 5);
+		int day = read2Digits(str, 8);
+		if (year < 1 || month < 1 || month > 12 || day < 1)
+			return -1;
+		// SMART 模式下会修正月末日期(如 02-30), 这里不做处理
+		if (day > 28 && day > Month.of(month).length(Year.isLeap(year)))
+			return -1;
+		return year;
+	}
+
+	/**
+	 * 读取两位数字
+	 * @return 数值, 非数字时返回一个负数
+	 */
+	private static int read2Digits(String str, int offset) {
+		int high = str.charAt(offset) - '0';
+		int low = str.charAt(offset + 1) - '0';
+		if (high < 0 || high > 9 || low < 0 || low > 9)
+			return -10000;
+		return high * 10 + low;
+	}
+
+	private static void writeDate(char[] buf, int year, int month, int day) {
+		write2Digits(buf, 0, year / 100);
+		write2Digits(buf, 2, year % 100);
+		buf[4] = '-';
+		write2Digits(buf, 5, month);
+		buf[7] = '-';
+		write2Digits(buf, 8, day);
+	}
+
+	private static void write2Digits(char[] buf, int offset, int value) {
+		buf[offset] = (char) ('0' + value / 10);
+		buf[offset + 1] = (char) ('0' + value % 10);
 	}
 	
 	// ====================================== time arithmetic operation ============================
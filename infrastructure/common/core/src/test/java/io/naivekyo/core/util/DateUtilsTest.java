@@ -0,0 +1,88 @@
+package io.naivekyo.core.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <p>
+ *     the default pattern fast paths of {@link DateUtils} must behave exactly like {@link DateTimeFormatter}.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+class DateUtilsTest {
+
+    private static final int RANDOM_VALUES = 200_000;
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DateUtils.DEFAULT_DATE_FORMAT);
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DateUtils.DEFAULT_DATETIME_FORMAT);
+
+    @Test
+    void randomValuesMatchFormatter() {
+        Random random = new Random(20230417L);
+        // include years outside [1, 9999], they are handed to the formatter
+        long minDay = LocalDate.of(-100, 1, 1).toEpochDay();
+        long maxDay = LocalDate.of(10100, 12, 31).toEpochDay();
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            LocalDate date = LocalDate.ofEpochDay(minDay + (long) (random.nextDouble() * (maxDay - minDay + 1)));
+            LocalDateTime dateTime = date.atTime(random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    random.nextInt(1_000_000_000));
+
+            String dateText = DATE_FORMATTER.format(date);
+            assertEquals(dateText, DateUtils.dateFormat(date));
+            assertEquals(dateText, DateUtils.dateFormat(date, DateUtils.DEFAULT_DATE_FORMAT));
+            String dateTimeText = DATE_TIME_FORMATTER.format(dateTime);
+            assertEquals(dateTimeText, DateUtils.dateTimeFormat(dateTime));
+            assertEquals(dateTimeText, DateUtils.dateTimeFormat(dateTime, DateUtils.DEFAULT_DATETIME_FORMAT));
+
+            if (date.getYear() >= 1 && date.getYear() <= 9999) {
+                assertEquals(LocalDate.parse(dateText, DATE_FORMATTER), DateUtils.parseLocalDate(dateText));
+                assertEquals(LocalDateTime.parse(dateTimeText, DATE_TIME_FORMATTER), DateUtils.parseLocalDateTime(dateTimeText));
+            }
+        }
+    }
+
+    @Test
+    void irregularTextMatchesFormatter() {
+        // SMART resolving of month end, malformed and out of range text
+        String[] dates = {"2023-02-29", "2024-04-31", "2023-13-01", "2023-1-01", "2023/01/01", "0000-01-01",
+                "+2023-01-01", "abcd-ef-gh", "2023-01-01 ", ""};
+        for (String text : dates) {
+            assertEquals(outcome(() -> LocalDate.parse(text, DATE_FORMATTER)), outcome(() -> DateUtils.parseLocalDate(text)), text);
+        }
+        String[] dateTimes = {"2023-02-30 10:00:00", "2023-01-01 24:00:00", "2023-01-01T10:00:00", "2023-01-01 10:60:00",
+                "2023-01-01 10:00", "0000-01-01 10:00:00", "2023-01-01 1a:00:00"};
+        for (String text : dateTimes) {
+            assertEquals(outcome(() -> LocalDateTime.parse(text, DATE_TIME_FORMATTER)),
+                    outcome(() -> DateUtils.parseLocalDateTime(text)), text);
+        }
+    }
+
+    @Test
+    void customPatternsBeyondDefaults() {
+        LocalDateTime dateTime = LocalDateTime.of(2023, 4, 18, 13, 45, 30);
+        for (int i = 0; i < 200; i++) {
+            String pattern = "yyyy-MM-dd HH:mm:ss '" + i + "'";
+            assertEquals(DateTimeFormatter.ofPattern(pattern).format(dateTime), DateUtils.dateTimeFormat(dateTime, pattern));
+        }
+    }
+
+    /**
+     * parsed value or the exception type, so that both results can be compared.
+     */
+    private static Object outcome(Supplier<?> parser) {
+        try {
+            return parser.get();
+        } catch (RuntimeException e) {
+            return e.getClass();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package io.naivekyo.mvc;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.naivekyo.mvc.execution.HandlerExecutionProperties;
+import io.naivekyo.mvc.execution.HandlerExecutor;
+import io.naivekyo.mvc.execution.OffloadingRequestMappingHandlerAdapter;
+import io.naivekyo.mvc.execution.RouteConcurrencyLimitInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * <p>
+ *     handler execution mode and per-route concurrency limits, see {@link HandlerExecutionProperties}.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@ConditionalOnClass(DispatcherServlet.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(HandlerExecutionProperties.class)
+@AutoConfiguration(before = WebMvcAutoConfiguration.class)
+public class HandlerExecutionAutoConfiguration {
+
+    @Bean
+    public WebMvcConfigurer routeConcurrencyLimitConfigurer(HandlerExecutionProperties properties,
+                                                            ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                if (!properties.getRouteLimits().isEmpty())
+                    registry.addInterceptor(new RouteConcurrencyLimitInterceptor(properties.getRouteLimits(),
+                            meterRegistryProvider.getIfAvailable()));
+            }
+        };
+    }
+
+    /**
+     * offload handler methods when mode is executor or virtual.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @Conditional(OffloadModeCondition.class)
+    static class OffloadingConfiguration {
+
+        /**
+         * a unique {@link TaskDecorator} bean is applied to handler tasks, as spring boot does for applicationTaskExecutor.
+         */
+        @Bean
+        public HandlerExecutor handlerExecutor(HandlerExecutionProperties properties,
+                                               ObjectProvider<TaskDecorator> taskDecoratorProvider) {
+            return new HandlerExecutor(properties, taskDecoratorProvider.getIfUnique());
+        }
+
+        @Bean
+        public WebMvcRegistrations offloadingWebMvcRegistrations(HandlerExecutor handlerExecutor,
+                                                                 HandlerExecutionProperties properties) {
+            return new WebMvcRegistrations() {
+                @Override
+                public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                    return new OffloadingRequestMappingHandlerAdapter(handlerExecutor, properties.getTimeout());
+                }
+            };
+        }
+    }
+
+    static class OffloadModeCondition extends SpringBootCondition {
+
+        @Override
+        public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            HandlerExecutionProperties.Mode mode = Binder.get(context.getEnvironment())
+                    .bind("naivekyo.mvc.execution.mode", HandlerExecutionProperties.Mode.class)
+                    .orElse(HandlerExecutionProperties.Mode.CONTAINER);
+            return mode == HandlerExecutionProperties.Mode.CONTAINER
+                    ? ConditionOutcome.noMatch("handler execution mode is container")
+                    : ConditionOutcome.match("handler execution mode is " + mode);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.naivekyo.mvc.execution;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>
+ *     handler method execution configuration properties.
+ * </p>
+ * <pre>
+ * naivekyo:
+ *   mvc:
+ *     execution:
+ *       mode: executor
+ *       timeout: 60s
+ *       pool:
+ *         max-size: 200
+ *       route-limits:
+ *         "[/order/**]": 50
+ * </pre>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "naivekyo.mvc.execution")
+public class HandlerExecutionProperties {
+
+    /**
+     * where handler methods are executed.
+     */
+    private Mode mode = Mode.CONTAINER;
+
+    /**
+     * async request timeout of offloaded handlers, no timeout by default so that a slow handler behaves
+     * as it did on the container thread. spring.mvc.async.request-timeout is not applied to offloaded handlers.
+     */
+    private Duration timeout;
+
+    /**
+     * bounded executor used by {@link Mode#EXECUTOR}, also the fallback of {@link Mode#VIRTUAL}.
+     */
+    private final Pool pool = new Pool();
+
+    /**
+     * maximum concurrent requests per route, key is an ant-style path pattern.
+     * requests over the limit are rejected with 503.
+     */
+    private Map<String, Integer> routeLimits = new LinkedHashMap<>();
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    public void setTimeout(Duration timeout) {
+        this.timeout = timeout;
+    }
+
+    public Pool getPool() {
+        return pool;
+    }
+
+    public Map<String, Integer> getRouteLimits() {
+        return routeLimits;
+    }
+
+    public void setRouteLimits(Map<String, Integer> routeLimits) {
+        this.routeLimits = routeLimits;
+    }
+
+    public enum Mode {
+
+        /**
+         * run handlers on servlet container threads (default spring mvc behavior).
+         */
+        CONTAINER,
+
+        /**
+         * run handlers on a separate bounded executor with async servlet support.
+         */
+        EXECUTOR,
+
+        /**
+         * run handlers on virtual threads (JDK 21+), fallback to {@link #EXECUTOR} on older JDK.
+         */
+        VIRTUAL
+    }
+
+    public static class Pool {
+
+        private int coreSize = 16;
+
+        private int maxSize = 200;
+
+        private int queueCapacity = 1000;
+
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        private String threadNamePrefix = "mvc-handler-";
+
+        public int getCoreSize() {
+            return coreSize;
+        }
+
+        public void setCoreSize(int coreSize) {
+            this.coreSize = coreSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public String getThreadNamePrefix() {
+            return threadNamePrefix;
+        }
+
+        public void setThreadNamePrefix(String threadNamePrefix) {
+            this.threadNamePrefix = threadNamePrefix;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package io.naivekyo.mvc.execution;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     executor that runs offloaded handler methods, see {@link OffloadingRequestMappingHandlerAdapter}. <br/>
+ *     intentionally not an {@link java.util.concurrent.Executor} bean, so spring boot's
+ *     {@code applicationTaskExecutor} is not replaced by it.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class HandlerExecutor implements MeterBinder, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HandlerExecutor.class);
+
+    private final HandlerExecutionProperties.Mode mode;
+
+    private final AsyncTaskExecutor taskExecutor;
+
+    /**
+     * non-null only in {@link HandlerExecutionProperties.Mode#EXECUTOR} mode.
+     */
+    private final ThreadPoolTaskExecutor threadPoolTaskExecutor;
+
+    /**
+     * non-null only in {@link HandlerExecutionProperties.Mode#VIRTUAL} mode.
+     */
+    private final ExecutorService virtualThreadExecutor;
+
+    private volatile Timer queueWaitTimer;
+
+    /**
+     * @param taskDecorator optional, decorates handler tasks on submission (e.g. to propagate thread local context).
+     */
+    public HandlerExecutor(HandlerExecutionProperties properties, TaskDecorator taskDecorator) {
+        ExecutorService virtualThreadExecutor = null;
+        if (properties.getMode() == HandlerExecutionProperties.Mode.VIRTUAL) {
+            virtualThreadExecutor = newVirtualThreadPerTaskExecutor();
+            if (virtualThreadExecutor == null)
+                log.warn("virtual threads are not supported by current JDK {}, fallback to bounded executor.",
+                        System.getProperty("java.version"));
+        }
+        if (virtualThreadExecutor != null) {
+            this.mode = HandlerExecutionProperties.Mode.VIRTUAL;
+            this.virtualThreadExecutor = virtualThreadExecutor;
+            this.threadPoolTaskExecutor = null;
+            ConcurrentTaskExecutor executor = new ConcurrentTaskExecutor(virtualThreadExecutor);
+            if (taskDecorator != null)
+                executor.setTaskDecorator(taskDecorator);
+            this.taskExecutor = executor;
+        } else {
+            HandlerExecutionProperties.Pool pool = properties.getPool();
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(pool.getCoreSize());
+            executor.setMaxPoolSize(pool.getMaxSize());
+            executor.setQueueCapacity(pool.getQueueCapacity());
+            executor.setKeepAliveSeconds((int) pool.getKeepAlive().getSeconds());
+            executor.setThreadNamePrefix(pool.getThreadNamePrefix());
+            if (taskDecorator != null)
+                executor.setTaskDecorator(taskDecorator);
+            executor.initialize();
+            this.mode = HandlerExecutionProperties.Mode.EXECUTOR;
+            this.virtualThreadExecutor = null;
+            this.threadPoolTaskExecutor = executor;
+            this.taskExecutor = executor;
+        }
+    }
+
+    /**
+     * {@code Executors.newVirtualThreadPerTaskExecutor()} is only available since JDK 21, lookup it reflectively.
+     * @return null if current JDK does not support virtual threads.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    public HandlerExecutionProperties.Mode getMode() {
+        return mode;
+    }
+
+    public AsyncTaskExecutor getTaskExecutor() {
+        return taskExecutor;
+    }
+
+    /**
+     * record the time between handler method submission and the start of its execution.
+     */
+    public void recordQueueWait(long nanos) {
+        Timer timer = this.queueWaitTimer;
+        if (timer != null)
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Tags tags = Tags.of("mode", this.mode.name().toLowerCase());
+        this.queueWaitTimer = Timer.builder("http.server.requests.queue.wait")
+                .description("time handler methods wait for an execution thread")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+        if (this.threadPoolTaskExecutor != null)
+            new ExecutorServiceMetrics(this.threadPoolTaskExecutor.getThreadPoolExecutor(), "mvc.handler", tags)
+                    .bindTo(registry);
+    }
+
+    @Override
+    public void destroy() {
+        if (this.threadPoolTaskExecutor != null)
+            this.threadPoolTaskExecutor.shutdown();
+        if (this.virtualThreadExecutor != null)
+            this.virtualThreadExecutor.shutdown();
+    }
+}
@@ -0,0 +1,159 @@
+package io.naivekyo.mvc.execution;
+
+import org.slf4j.MDC;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.ReactiveAdapterRegistry;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * <p>
+ *     {@link RequestMappingHandlerAdapter} that runs handler methods on {@link HandlerExecutor}. <br/>
+ *     arguments are still resolved on the container thread, then the handler method itself is returned
+ *     as a {@link WebAsyncTask}, so the container thread is released while the handler blocks on redis or database.
+ *     the result is written back by the async dispatch exactly like a {@code Callable} returning controller.
+ * </p>
+ * <p>
+ *     handlers returning void or any async type (Callable, DeferredResult, CompletionStage, reactive types, streaming...)
+ *     are left on the container thread. <br/>
+ *     a handler rejected by a saturated {@link HandlerExecutor} is answered with 503 and Retry-After,
+ *     like a request over the route concurrency limit.
+ * </p>
+ * <p>
+ *     request attributes, locale and MDC are propagated to the handler thread. other thread local state bound by
+ *     servlet filters (e.g. the N+1 statement scope of mybatis-plus-support sql metrics) is not, propagate it with a
+ *     {@link org.springframework.core.task.TaskDecorator} bean, see {@link HandlerExecutor}.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class OffloadingRequestMappingHandlerAdapter extends RequestMappingHandlerAdapter {
+
+    private static final Class<?>[] ASYNC_RETURN_TYPES = {
+            Callable.class, WebAsyncTask.class, DeferredResult.class, ListenableFuture.class,
+            CompletionStage.class, ResponseBodyEmitter.class, StreamingResponseBody.class
+    };
+
+    private final HandlerExecutor handlerExecutor;
+
+    /**
+     * async request timeout in milliseconds, a non-positive value means no timeout.
+     */
+    private final long timeoutMillis;
+
+    private final Map<Method, Boolean> offloadableCache = new ConcurrentHashMap<>(256);
+
+    /**
+     * @param timeout async request timeout of offloaded handlers, null for no timeout.
+     */
+    public OffloadingRequestMappingHandlerAdapter(HandlerExecutor handlerExecutor, Duration timeout) {
+        this.handlerExecutor = handlerExecutor;
+        this.timeoutMillis = timeout != null ? timeout.toMillis() : -1L;
+    }
+
+    /**
+     * on rejection {@link org.springframework.web.context.request.async.WebAsyncManager} both rethrows the exception
+     * and dispatches it as the concurrent result, so the 503 is sent by the async dispatch.
+     */
+    @Override
+    protected ModelAndView invokeHandlerMethod(HttpServletRequest request, HttpServletResponse response,
+                                               HandlerMethod handlerMethod) throws Exception {
+        try {
+            return super.invokeHandlerMethod(request, response, handlerMethod);
+        } catch (RejectedExecutionException e) {
+            // thrown by a handler left on the container thread, not by the handler executor
+            if (!Boolean.TRUE.equals(this.offloadableCache.get(handlerMethod.getMethod())))
+                throw e;
+            if (!WebAsyncUtils.getAsyncManager(request).isConcurrentHandlingStarted())
+                RouteConcurrencyLimitInterceptor.sendOverloaded(response, "handler executor is saturated");
+            return null;
+        }
+    }
+
+    @Override
+    protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+        Boolean offloadable = this.offloadableCache.computeIfAbsent(handlerMethod.getMethod(),
+                method -> isOffloadable(handlerMethod));
+        return offloadable ? new OffloadingInvocableHandlerMethod(handlerMethod)
+                : super.createInvocableHandlerMethod(handlerMethod);
+    }
+
+    private static boolean isOffloadable(HandlerMethod handlerMethod) {
+        Class<?> returnType = handlerMethod.getReturnType().getParameterType();
+        if (returnType == void.class || returnType == Void.class)
+            return false;
+        if (HttpEntity.class.isAssignableFrom(returnType))
+            returnType = ResolvableType.forMethodParameter(handlerMethod.getReturnType()).getGeneric().resolve(Object.class);
+        for (Class<?> asyncType : ASYNC_RETURN_TYPES) {
+            if (asyncType.isAssignableFrom(returnType))
+                return false;
+        }
+        return ReactiveAdapterRegistry.getSharedInstance().getAdapter(returnType) == null;
+    }
+
+    private class OffloadingInvocableHandlerMethod extends ServletInvocableHandlerMethod {
+
+        OffloadingInvocableHandlerMethod(HandlerMethod handlerMethod) {
+            super(handlerMethod);
+        }
+
+        @Override
+        public Object invokeForRequest(NativeWebRequest request, ModelAndViewContainer mavContainer,
+                                       Object... providedArgs) throws Exception {
+            Object[] args = getMethodArgumentValues(request, mavContainer, providedArgs);
+            HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+            HttpServletResponse servletResponse = request.getNativeResponse(HttpServletResponse.class);
+            LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            long submitTime = System.nanoTime();
+            Callable<Object> callable = () -> {
+                handlerExecutor.recordQueueWait(System.nanoTime() - submitTime);
+                // the ServletWebRequest of the initial dispatch is completed once it returns,
+                // bind request attributes of our own which stay active until the handler returns
+                ServletRequestAttributes requestAttributes = servletRequest != null
+                        ? new ServletRequestAttributes(servletRequest, servletResponse) : null;
+                if (requestAttributes != null)
+                    RequestContextHolder.setRequestAttributes(requestAttributes);
+                LocaleContextHolder.setLocaleContext(localeContext);
+                if (mdc != null)
+                    MDC.setContextMap(mdc);
+                try {
+                    return doInvoke(args);
+                } finally {
+                    MDC.clear();
+                    LocaleContextHolder.resetLocaleContext();
+                    RequestContextHolder.resetRequestAttributes();
+                    if (requestAttributes != null)
+                        requestAttributes.requestCompleted();
+                }
+            };
+            // explicit timeout, the container default (30s on tomcat) would cut off slow handlers
+            return new WebAsyncTask<>(timeoutMillis, handlerExecutor.getTaskExecutor(), callable);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.naivekyo.mvc.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+/**
+ * <p>
+ *     limit concurrent requests of the configured routes (bulkhead), requests over the limit are rejected with 503
+ *     and Retry-After instead of piling up on the container or handler executor threads. <br/>
+ *     the permit is held across the async dispatch of offloaded handlers and released in {@link #afterCompletion}.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class RouteConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final String PERMIT_ATTRIBUTE = RouteConcurrencyLimitInterceptor.class.getName() + ".PERMIT";
+
+    /**
+     * overload is expected to be short, clients may retry after one second.
+     */
+    private static final String RETRY_AFTER_SECONDS = "1";
+
+    /**
+     * marker of routes without limit.
+     */
+    private static final RouteLimit UNLIMITED = new RouteLimit(null, 0, null);
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    private final List<RouteLimit> routeLimits;
+
+    /**
+     * best matching pattern -> limit of the first matched configured route.
+     */
+    private final Map<String, RouteLimit> resolvedLimits = new ConcurrentHashMap<>(64);
+
+    public RouteConcurrencyLimitInterceptor(Map<String, Integer> routeLimits, MeterRegistry registry) {
+        MeterRegistry meterRegistry = registry != null ? registry : Metrics.globalRegistry;
+        this.routeLimits = new ArrayList<>(routeLimits.size());
+        routeLimits.forEach((pattern, limit) -> {
+            Counter rejected = Counter.builder("http.server.requests.rejected")
+                    .description("requests rejected by route concurrency limit")
+                    .tag("route", pattern)
+                    .register(meterRegistry);
+            this.routeLimits.add(new RouteLimit(pattern, limit, rejected));
+        });
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+        // async dispatch of an offloaded handler, permit already acquired by the initial dispatch
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null)
+            return true;
+        Object bestMatchingPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (bestMatchingPattern == null)
+            return true;
+        RouteLimit routeLimit = this.resolvedLimits.computeIfAbsent(bestMatchingPattern.toString(), this::resolve);
+        if (routeLimit == UNLIMITED)
+            return true;
+        if (!routeLimit.semaphore.tryAcquire()) {
+            routeLimit.rejected.increment();
+            sendOverloaded(response, "too many concurrent requests");
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, routeLimit);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object routeLimit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (routeLimit != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            ((RouteLimit) routeLimit).semaphore.release();
+        }
+    }
+
+    /**
+     * 503 with Retry-After, also used when {@link HandlerExecutor} rejects an offloaded handler.
+     */
+    static void sendOverloaded(HttpServletResponse response, String message) throws IOException {
+        response.setHeader(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS);
+        response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value(), message);
+    }
+
+    private RouteLimit resolve(String bestMatchingPattern) {
+        for (RouteLimit routeLimit : this.routeLimits) {
+            if (this.pathMatcher.match(routeLimit.pattern, bestMatchingPattern))
+                return routeLimit;
+        }
+        return UNLIMITED;
+    }
+
+    private static class RouteLimit {
+
+        private final String pattern;
+
+        private final Semaphore semaphore;
+
+        private final Counter rejected;
+
+        RouteLimit(String pattern, int limit, Counter rejected) {
+            this.pattern = pattern;
+            this.semaphore = new Semaphore(limit);
+            this.rejected = rejected;
+        }
+    }
+}
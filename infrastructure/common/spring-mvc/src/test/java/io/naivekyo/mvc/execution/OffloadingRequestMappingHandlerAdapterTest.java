@@ -0,0 +1,202 @@
+package io.naivekyo.mvc.execution;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurationSupport;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import javax.servlet.DispatcherType;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * <p>
+ *     handlers offloaded by {@link OffloadingRequestMappingHandlerAdapter}: context propagation, the route permit held
+ *     across the async dispatch, and 503 when {@link HandlerExecutor} is saturated.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@SpringJUnitWebConfig(OffloadingRequestMappingHandlerAdapterTest.OffloadingConfiguration.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class OffloadingRequestMappingHandlerAdapterTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private BlockingController controller;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.webAppContextSetup(this.context).build();
+    }
+
+    @AfterEach
+    void release() {
+        this.controller.release.countDown();
+        MDC.clear();
+    }
+
+    @Test
+    void requestContextIsPropagatedToHandlerThread() throws Exception {
+        MDC.put("traceId", "trace-1");
+        MvcResult result = this.mockMvc.perform(get("/context").requestAttr("tenant", "acme").locale(Locale.FRANCE))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        // the handler reads the context after the initial dispatch has returned
+        this.controller.release.countDown();
+
+        this.mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.thread", startsWith("mvc-handler-")))
+                .andExpect(jsonPath("$.tenant").value("acme"))
+                .andExpect(jsonPath("$.locale").value("fr-FR"))
+                .andExpect(jsonPath("$.traceId").value("trace-1"));
+    }
+
+    @Test
+    void routePermitIsHeldAcrossAsyncDispatch() throws Exception {
+        MvcResult first = this.mockMvc.perform(get("/limited/1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertTrue(this.controller.started.await(5, TimeUnit.SECONDS));
+
+        // the handler of the first request is still running on the handler executor
+        this.mockMvc.perform(get("/limited/2"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+        this.controller.release.countDown();
+        this.mockMvc.perform(asyncDispatch(first))
+                .andExpect(status().isOk())
+                .andExpect(content().string("1"));
+
+        // released by afterCompletion of the async dispatch
+        MvcResult third = this.mockMvc.perform(get("/limited/3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        this.mockMvc.perform(asyncDispatch(third))
+                .andExpect(status().isOk())
+                .andExpect(content().string("3"));
+    }
+
+    @Test
+    void saturatedHandlerExecutorIsServiceUnavailable() throws Exception {
+        // one running and one queued handler fill the executor
+        MvcResult running = this.mockMvc.perform(get("/blocking/1")).andExpect(request().asyncStarted()).andReturn();
+        assertTrue(this.controller.started.await(5, TimeUnit.SECONDS));
+        MvcResult queued = this.mockMvc.perform(get("/blocking/2")).andExpect(request().asyncStarted()).andReturn();
+
+        MvcResult rejected = this.mockMvc.perform(get("/context")).andExpect(request().asyncStarted()).andReturn();
+        // rejected before any callable interceptor runs, so MvcResult never records the async result
+        // that asyncDispatch(MvcResult) waits for, dispatch the same way without waiting.
+        this.mockMvc.perform(servletContext -> {
+                    MockHttpServletRequest request = rejected.getRequest();
+                    request.setDispatcherType(DispatcherType.ASYNC);
+                    request.setAsyncStarted(false);
+                    return request;
+                })
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+
+        this.controller.release.countDown();
+        this.mockMvc.perform(asyncDispatch(running)).andExpect(status().isOk()).andExpect(content().string("1"));
+        this.mockMvc.perform(asyncDispatch(queued)).andExpect(status().isOk()).andExpect(content().string("2"));
+    }
+
+    @Configuration
+    static class OffloadingConfiguration extends WebMvcConfigurationSupport {
+
+        @Bean
+        public HandlerExecutor handlerExecutor() {
+            HandlerExecutionProperties properties = new HandlerExecutionProperties();
+            properties.setMode(HandlerExecutionProperties.Mode.EXECUTOR);
+            properties.getPool().setCoreSize(1);
+            properties.getPool().setMaxSize(1);
+            properties.getPool().setQueueCapacity(1);
+            return new HandlerExecutor(properties, null);
+        }
+
+        @Bean
+        public BlockingController blockingController() {
+            return new BlockingController();
+        }
+
+        @Override
+        protected RequestMappingHandlerAdapter createRequestMappingHandlerAdapter() {
+            return new OffloadingRequestMappingHandlerAdapter(handlerExecutor(), Duration.ofSeconds(10));
+        }
+
+        @Override
+        protected void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new RouteConcurrencyLimitInterceptor(Collections.singletonMap("/limited/**", 1),
+                    new SimpleMeterRegistry()));
+        }
+    }
+
+    @RestController
+    static class BlockingController {
+
+        final CountDownLatch started = new CountDownLatch(1);
+
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @GetMapping("/context")
+        public Map<String, Object> context() throws InterruptedException {
+            this.release.await(5, TimeUnit.SECONDS);
+            Map<String, Object> context = new LinkedHashMap<>();
+            context.put("thread", Thread.currentThread().getName());
+            context.put("tenant", RequestContextHolder.currentRequestAttributes()
+                    .getAttribute("tenant", RequestAttributes.SCOPE_REQUEST));
+            context.put("locale", LocaleContextHolder.getLocale().toLanguageTag());
+            context.put("traceId", MDC.get("traceId"));
+            return context;
+        }
+
+        @GetMapping({"/limited/{id}", "/blocking/{id}"})
+        public String block(@PathVariable String id) throws InterruptedException {
+            this.started.countDown();
+            this.release.await(5, TimeUnit.SECONDS);
+            return id;
+        }
+    }
+}
@@ -1,11 +1,135 @@
 package io.naivekyo.security;
 
+import io.naivekyo.security.token.RedisTokenRevocationStore;
+import io.naivekyo.security.token.TokenAuthenticationCache;
+import io.naivekyo.security.token.TokenAuthenticationFilter;
+import io.naivekyo.security.token.TokenRevocationStore;
+import io.naivekyo.security.token.TokenVerifier;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 /**
  * <p>
- *     Spring Security advanced configuration.
+ *     Spring Security advanced configuration: stateless token authentication filter chain. <br/>
+ *     applies when the service provides a {@link TokenVerifier} bean and no {@link SecurityFilterChain} of its own.
+ *     verified tokens are cached by {@link TokenAuthenticationCache}, revocation is backed by redis when
+ *     redis-cache-support is present.
  * </p>
  * @author NaiveKyo
  * @since 1.0
  */
+@ConditionalOnClass(SecurityFilterChain.class)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnBean(TokenVerifier.class)
+@EnableConfigurationProperties(TokenAuthenticationProperties.class)
+@AutoConfiguration(before = SecurityAutoConfiguration.class,
+        afterName = {"org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration",
+                "io.naivekyo.config.EnhancedRedisCacheAutoConfiguration"})
 public class SpringSecurityConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TokenAuthenticationCache tokenAuthenticationCache(TokenAuthenticationProperties properties) {
+        TokenAuthenticationProperties.Cache cache = properties.getCache();
+        return new TokenAuthenticationCache(cache.getMaximumSize(), cache.getTimeToLive());
+    }
+
+    /**
+     * revocation without redis, only evicts the local cache of current instance.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public TokenRevocationStore tokenRevocationStore(TokenAuthenticationCache tokenAuthenticationCache) {
+        return TokenRevocationStore.local(tokenAuthenticationCache);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(SecurityFilterChain.class)
+    public SecurityFilterChain tokenSecurityFilterChain(HttpSecurity http, TokenAuthenticationProperties properties,
+                                                        TokenVerifier tokenVerifier,
+                                                        TokenAuthenticationCache tokenAuthenticationCache,
+                                                        TokenRevocationStore tokenRevocationStore) throws Exception {
+        AuthenticationEntryPoint entryPoint = new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED);
+        String[] permitPaths = properties.getPermitPaths().toArray(new String[0]);
+        // same paths as the permitAll rule below
+        RequestMatcher permittedRequestMatcher = permitPaths.length > 0
+                ? new OrRequestMatcher(Arrays.stream(permitPaths).map(AntPathRequestMatcher::new).collect(Collectors.toList()))
+                : request -> false;
+        // not a bean, otherwise spring boot registers it as a servlet filter as well
+        TokenAuthenticationFilter tokenAuthenticationFilter = new TokenAuthenticationFilter(tokenVerifier,
+                tokenAuthenticationCache, tokenRevocationStore, entryPoint, permittedRequestMatcher,
+                properties.getHeader(), properties.getPrefix());
+
+        http.csrf().disable()
+                .formLogin().disable()
+                .httpBasic().disable()
+                .logout().disable()
+                .requestCache().disable()
+                .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS);
+        http.exceptionHandling().authenticationEntryPoint(entryPoint);
+        http.authorizeHttpRequests(authorize -> {
+            if (permitPaths.length > 0)
+                authorize.antMatchers(permitPaths).permitAll();
+            authorize.anyRequest().authenticated();
+        });
+        http.addFilterBefore(tokenAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        return http.build();
+    }
+
+    /**
+     * redis backed revocation shared by all instances.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RedisOperations.class)
+    @ConditionalOnBean(RedisConnectionFactory.class)
+    @ConditionalOnProperty(prefix = "naivekyo.security.token.revocation", name = "enabled", havingValue = "true", matchIfMissing = true)
+    static class RedisTokenRevocationConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(TokenRevocationStore.class)
+        public RedisTokenRevocationStore redisTokenRevocationStore(RedisTemplate<Object, Object> redisTemplate,
+                                                                   TokenAuthenticationCache tokenAuthenticationCache,
+                                                                   TokenAuthenticationProperties properties) {
+            TokenAuthenticationProperties.Revocation revocation = properties.getRevocation();
+            return new RedisTokenRevocationStore(redisTemplate, tokenAuthenticationCache,
+                    revocation.getKeyPrefix(), revocation.getChannel(), revocation.getRetention());
+        }
+
+        @Bean
+        @ConditionalOnBean(RedisTokenRevocationStore.class)
+        public RedisMessageListenerContainer tokenRevocationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                              RedisTokenRevocationStore redisTokenRevocationStore,
+                                                                              TokenAuthenticationProperties properties) {
+            RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+            container.setConnectionFactory(redisConnectionFactory);
+            container.addMessageListener(redisTokenRevocationStore, new ChannelTopic(properties.getRevocation().getChannel()));
+            return container;
+        }
+    }
 }
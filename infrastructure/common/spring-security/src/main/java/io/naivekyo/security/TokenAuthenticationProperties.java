@@ -0,0 +1,150 @@
+package io.naivekyo.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ *     stateless token authentication configuration properties.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "naivekyo.security.token")
+public class TokenAuthenticationProperties {
+
+    /**
+     * request header carrying the token.
+     */
+    private String header = "Authorization";
+
+    /**
+     * token prefix of the header value, matched case-insensitively.
+     */
+    private String prefix = "Bearer ";
+
+    /**
+     * ant-style paths accessible without authentication.
+     */
+    private List<String> permitPaths = new ArrayList<>();
+
+    private final Cache cache = new Cache();
+
+    private final Revocation revocation = new Revocation();
+
+    public String getHeader() {
+        return header;
+    }
+
+    public void setHeader(String header) {
+        this.header = header;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public void setPrefix(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public List<String> getPermitPaths() {
+        return permitPaths;
+    }
+
+    public void setPermitPaths(List<String> permitPaths) {
+        this.permitPaths = permitPaths;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Revocation getRevocation() {
+        return revocation;
+    }
+
+    public static class Cache {
+
+        /**
+         * maximum cached tokens.
+         */
+        private long maximumSize = 10000;
+
+        /**
+         * maximum time a verified token is cached, entries also expire with the token.
+         */
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+        public long getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(long maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+
+    public static class Revocation {
+
+        /**
+         * whether to use redis backed revocation when redis is available.
+         */
+        private boolean enabled = true;
+
+        private String keyPrefix = "security:token:revoked:";
+
+        /**
+         * pub/sub channel used to evict revoked tokens from local caches of all instances.
+         */
+        private String channel = "security:token:revocation";
+
+        /**
+         * how long the revocation of a token without expiration is kept.
+         */
+        private Duration retention = Duration.ofDays(30);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getKeyPrefix() {
+            return keyPrefix;
+        }
+
+        public void setKeyPrefix(String keyPrefix) {
+            this.keyPrefix = keyPrefix;
+        }
+
+        public String getChannel() {
+            return channel;
+        }
+
+        public void setChannel(String channel) {
+            this.channel = channel;
+        }
+
+        public Duration getRetention() {
+            return retention;
+        }
+
+        public void setRetention(Duration retention) {
+            this.retention = retention;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.naivekyo.security.token;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * <p>
+ *     redis backed {@link TokenRevocationStore}: <br/>
+ *     revoked token id is stored as {keyPrefix}{tokenId} until the token expires, and published to the revocation channel
+ *     so that every instance evicts it from its {@link TokenAuthenticationCache}. <br/>
+ *     redis failures are logged and treated as not revoked, tokens are still bounded by their expiration.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class RedisTokenRevocationStore implements TokenRevocationStore, MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisTokenRevocationStore.class);
+
+    private final RedisTemplate<Object, Object> redisTemplate;
+
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+
+    private final String keyPrefix;
+
+    private final String channel;
+
+    /**
+     * how long the revocation of a token without expiration is kept.
+     */
+    private final Duration retention;
+
+    public RedisTokenRevocationStore(RedisTemplate<Object, Object> redisTemplate,
+                                     TokenAuthenticationCache tokenAuthenticationCache,
+                                     String keyPrefix, String channel, Duration retention) {
+        this.redisTemplate = redisTemplate;
+        this.tokenAuthenticationCache = tokenAuthenticationCache;
+        this.keyPrefix = keyPrefix;
+        this.channel = channel;
+        this.retention = retention;
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        try {
+            return Boolean.TRUE.equals(this.redisTemplate.hasKey(this.keyPrefix + tokenId));
+        } catch (DataAccessException e) {
+            log.warn("failed to check revocation of token {}, treat as not revoked.", tokenId, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void revoke(String tokenId, Instant expiresAt) {
+        this.tokenAuthenticationCache.evict(tokenId);
+        Duration ttl = expiresAt != null ? Duration.between(Instant.now(), expiresAt) : this.retention;
+        if (ttl.isNegative() || ttl.isZero())
+            return;
+        this.redisTemplate.opsForValue().set(this.keyPrefix + tokenId, 1, ttl);
+        this.redisTemplate.convertAndSend(this.channel, tokenId);
+    }
+
+    /**
+     * revocation published by any instance (including this one).
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        Object tokenId = this.redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (tokenId != null)
+            this.tokenAuthenticationCache.evict(tokenId.toString());
+    }
+}
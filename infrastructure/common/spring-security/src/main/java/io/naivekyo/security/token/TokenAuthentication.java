@@ -0,0 +1,63 @@
+package io.naivekyo.security.token;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ *     authentication of a verified bearer token. <br/>
+ *     cached instances are shared by concurrent requests of the same token, treat them as immutable.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class TokenAuthentication extends AbstractAuthenticationToken {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String tokenId;
+
+    private final Object principal;
+
+    private final Instant expiresAt;
+
+    public TokenAuthentication(VerifiedToken verifiedToken) {
+        super(verifiedToken.getAuthorities());
+        this.tokenId = verifiedToken.getTokenId();
+        this.principal = verifiedToken.getPrincipal();
+        this.expiresAt = verifiedToken.getExpiresAt();
+        super.setAuthenticated(true);
+    }
+
+    /**
+     * token is never kept in memory as credentials.
+     */
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return principal;
+    }
+
+    /**
+     * @return token id, pass it to {@link TokenRevocationStore#revoke} to logout.
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public void setAuthenticated(boolean authenticated) {
+        if (authenticated)
+            throw new IllegalArgumentException("can't set this token to trusted, use constructor instead.");
+        super.setAuthenticated(false);
+    }
+}
@@ -0,0 +1,133 @@
+package io.naivekyo.security.token;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     bounded local cache of verified token -> {@link TokenAuthentication}, so a repeat request of the same token
+ *     costs a hash lookup instead of {@link TokenVerifier#verify}. <br/>
+ *     an entry lives until the earlier of the token expiration and the configured time to live,
+ *     which also bounds how long a revocation missed by this instance takes effect.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class TokenAuthenticationCache {
+
+    private final Cache<String, TokenAuthentication> cache;
+
+    /**
+     * token id -> token, so revocation evicts in O(1). entries may outlive the token entry, which is harmless.
+     */
+    private final Cache<String, String> tokenIndex;
+
+    /**
+     * recently revoked token ids, so a verification racing with the revocation can't cache the token afterwards.
+     */
+    private final Cache<String, Boolean> revokedTokenIds;
+
+    private final long timeToLiveNanos;
+
+    public TokenAuthenticationCache(long maximumSize, Duration timeToLive) {
+        this.timeToLiveNanos = timeToLive.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .build();
+        this.tokenIndex = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+        this.revokedTokenIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    /**
+     * @return cached authentication, null on cache miss.
+     */
+    public TokenAuthentication get(String token) {
+        return this.cache.getIfPresent(token);
+    }
+
+    /**
+     * build authentication of the verified token and cache it if the token is not about to expire.
+     * @return null if the token has just been revoked.
+     */
+    public TokenAuthentication put(String token, VerifiedToken verifiedToken) {
+        TokenAuthentication authentication = new TokenAuthentication(verifiedToken);
+        if (expireAfterNanos(authentication) > 0) {
+            this.cache.put(token, authentication);
+            this.tokenIndex.put(authentication.getTokenId(), token);
+        }
+        // checked after insert: either evict() sees the entry or this sees its tombstone
+        if (isRevoked(authentication.getTokenId())) {
+            this.cache.invalidate(token);
+            return null;
+        }
+        return authentication;
+    }
+
+    /**
+     * evict the cached token of the given token id and reject it for the time to live, called on revocation.
+     */
+    public void evict(String tokenId) {
+        this.revokedTokenIds.put(tokenId, Boolean.TRUE);
+        String token = this.tokenIndex.getIfPresent(tokenId);
+        if (token != null) {
+            this.cache.invalidate(token);
+            this.tokenIndex.invalidate(tokenId);
+        }
+    }
+
+    /**
+     * @return true if the token id was revoked within the time to live.
+     */
+    public boolean isRevoked(String tokenId) {
+        return this.revokedTokenIds.getIfPresent(tokenId) != null;
+    }
+
+    public void clear() {
+        this.cache.invalidateAll();
+        this.tokenIndex.invalidateAll();
+    }
+
+    public long size() {
+        return this.cache.estimatedSize();
+    }
+
+    private long expireAfterNanos(TokenAuthentication authentication) {
+        Instant expiresAt = authentication.getExpiresAt();
+        if (expiresAt == null)
+            return this.timeToLiveNanos;
+        long millis = expiresAt.toEpochMilli() - System.currentTimeMillis();
+        return Math.min(this.timeToLiveNanos, TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private class TokenExpiry implements Expiry<String, TokenAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String token, TokenAuthentication authentication, long currentTime) {
+            return Math.max(0L, expireAfterNanos(authentication));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, TokenAuthentication authentication, long currentTime,
+                                      long currentDuration) {
+            return Math.max(0L, expireAfterNanos(authentication));
+        }
+
+        @Override
+        public long expireAfterRead(String token, TokenAuthentication authentication, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
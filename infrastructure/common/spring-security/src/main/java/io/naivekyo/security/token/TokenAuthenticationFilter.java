@@ -0,0 +1,109 @@
+package io.naivekyo.security.token;
+
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.AuthenticationEntryPoint;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * <p>
+ *     stateless bearer token authentication. <br/>
+ *     cache hit: {@link TokenAuthenticationCache} lookup only; <br/>
+ *     cache miss: {@link TokenVerifier#verify}, then {@link TokenRevocationStore#isRevoked}, then cache the result. <br/>
+ *     requests without token pass through as anonymous, authorization rules decide whether they are allowed. <br/>
+ *     an invalid token is rejected by the entry point, except on permitted requests which also pass through as anonymous.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private final TokenVerifier tokenVerifier;
+
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+
+    private final TokenRevocationStore tokenRevocationStore;
+
+    private final AuthenticationEntryPoint authenticationEntryPoint;
+
+    /**
+     * requests permitted without authentication, a token failure doesn't reject them.
+     */
+    private final RequestMatcher permittedRequestMatcher;
+
+    private final String headerName;
+
+    private final String tokenPrefix;
+
+    public TokenAuthenticationFilter(TokenVerifier tokenVerifier, TokenAuthenticationCache tokenAuthenticationCache,
+                                     TokenRevocationStore tokenRevocationStore,
+                                     AuthenticationEntryPoint authenticationEntryPoint,
+                                     RequestMatcher permittedRequestMatcher, String headerName, String tokenPrefix) {
+        this.tokenVerifier = tokenVerifier;
+        this.tokenAuthenticationCache = tokenAuthenticationCache;
+        this.tokenRevocationStore = tokenRevocationStore;
+        this.authenticationEntryPoint = authenticationEntryPoint;
+        this.permittedRequestMatcher = permittedRequestMatcher;
+        this.headerName = headerName;
+        this.tokenPrefix = tokenPrefix;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String token = resolveToken(request);
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        TokenAuthentication authentication = this.tokenAuthenticationCache.get(token);
+        if (authentication == null) {
+            try {
+                authentication = authenticate(token);
+            } catch (AuthenticationException e) {
+                SecurityContextHolder.clearContext();
+                if (this.permittedRequestMatcher.matches(request)) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+                this.authenticationEntryPoint.commence(request, response, e);
+                return;
+            }
+        }
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+
+    private TokenAuthentication authenticate(String token) {
+        VerifiedToken verifiedToken = this.tokenVerifier.verify(token);
+        if (verifiedToken.getExpiresAt() != null && !verifiedToken.getExpiresAt().isAfter(Instant.now()))
+            throw new CredentialsExpiredException("token has expired");
+        if (this.tokenRevocationStore.isRevoked(verifiedToken.getTokenId()))
+            throw new BadCredentialsException("token has been revoked");
+        TokenAuthentication authentication = this.tokenAuthenticationCache.put(token, verifiedToken);
+        if (authentication == null)
+            throw new BadCredentialsException("token has been revoked");
+        return authentication;
+    }
+
+    private String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader(this.headerName);
+        if (header == null || !header.regionMatches(true, 0, this.tokenPrefix, 0, this.tokenPrefix.length()))
+            return null;
+        String token = header.substring(this.tokenPrefix.length()).trim();
+        return token.isEmpty() ? null : token;
+    }
+}
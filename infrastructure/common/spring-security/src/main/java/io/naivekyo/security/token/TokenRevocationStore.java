@@ -0,0 +1,40 @@
+package io.naivekyo.security.token;
+
+import java.time.Instant;
+
+/**
+ * <p>
+ *     revoked token ids, checked when a token is verified (local cache miss). <br/>
+ *     implementations must also evict revoked tokens from {@link TokenAuthenticationCache} of every instance.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public interface TokenRevocationStore {
+
+    /**
+     * store used when revocation is disabled or redis is unavailable, revocation is only known by the local cache
+     * of current instance and kept for the cache time to live.
+     */
+    static TokenRevocationStore local(TokenAuthenticationCache cache) {
+        return new TokenRevocationStore() {
+            @Override
+            public boolean isRevoked(String tokenId) {
+                return cache.isRevoked(tokenId);
+            }
+
+            @Override
+            public void revoke(String tokenId, Instant expiresAt) {
+                cache.evict(tokenId);
+            }
+        };
+    }
+
+    boolean isRevoked(String tokenId);
+
+    /**
+     * @param tokenId   {@link VerifiedToken#getTokenId()}
+     * @param expiresAt {@link VerifiedToken#getExpiresAt()}, revocation record is kept until then.
+     */
+    void revoke(String tokenId, Instant expiresAt);
+}
@@ -0,0 +1,23 @@
+package io.naivekyo.security.token;
+
+import org.springframework.security.core.AuthenticationException;
+
+/**
+ * <p>
+ *     verify a bearer token and load its principal, provided by each service
+ *     (signature verification, user lookup, authority decoding...). <br/>
+ *     only called on local cache miss, see {@link TokenAuthenticationCache}.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface TokenVerifier {
+
+    /**
+     * @param token raw token without prefix.
+     * @return verified token, never null.
+     * @throws AuthenticationException if the token is invalid or expired.
+     */
+    VerifiedToken verify(String token) throws AuthenticationException;
+}
@@ -0,0 +1,58 @@
+package io.naivekyo.security.token;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.util.Assert;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * <p>
+ *     result of {@link TokenVerifier}: principal and authorities carried by a valid token.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public final class VerifiedToken {
+
+    private final String tokenId;
+
+    private final Object principal;
+
+    private final Collection<? extends GrantedAuthority> authorities;
+
+    private final Instant expiresAt;
+
+    /**
+     * @param tokenId       unique id of the token (e.g. jwt jti), used by revocation.
+     * @param principal     authenticated principal.
+     * @param authorities   granted authorities.
+     * @param expiresAt     token expiration time, null if the token does not expire.
+     */
+    public VerifiedToken(String tokenId, Object principal, Collection<? extends GrantedAuthority> authorities,
+                         Instant expiresAt) {
+        Assert.hasText(tokenId, "tokenId must not be empty");
+        Assert.notNull(principal, "principal must not be null");
+        this.tokenId = tokenId;
+        this.principal = principal;
+        this.authorities = authorities != null ? Collections.unmodifiableCollection(authorities) : Collections.emptyList();
+        this.expiresAt = expiresAt;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Object getPrincipal() {
+        return principal;
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,107 @@
+package io.naivekyo.security.token;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     {@link RedisTokenRevocationStore}: revocation record, local eviction and the fail-open path on redis failure.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+class RedisTokenRevocationStoreTest {
+
+    private static final String KEY_PREFIX = "security:token:revoked:";
+
+    private static final String CHANNEL = "security:token:revocation";
+
+    private RedisTemplate<Object, Object> redisTemplate;
+
+    private ValueOperations<Object, Object> valueOperations;
+
+    private TokenAuthenticationCache cache;
+
+    private RedisTokenRevocationStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.redisTemplate = mock(RedisTemplate.class);
+        this.valueOperations = mock(ValueOperations.class);
+        when(this.redisTemplate.opsForValue()).thenReturn(this.valueOperations);
+        this.cache = new TokenAuthenticationCache(100, Duration.ofMinutes(5));
+        this.store = new RedisTokenRevocationStore(this.redisTemplate, this.cache, KEY_PREFIX, CHANNEL, Duration.ofDays(30));
+    }
+
+    @Test
+    void revokeStoresUntilExpirationAndPublishes() {
+        this.cache.put("token-1", TokenAuthenticationCacheTest.verifiedToken("jti-1"));
+
+        this.store.revoke("jti-1", Instant.now().plusSeconds(600));
+
+        assertNull(this.cache.get("token-1"));
+        verify(this.valueOperations).set(eq(KEY_PREFIX + "jti-1"), eq(1), any(Duration.class));
+        verify(this.redisTemplate).convertAndSend(CHANNEL, "jti-1");
+    }
+
+    @Test
+    void revokeOfExpiredTokenOnlyEvictsLocally() {
+        this.cache.put("token-1", TokenAuthenticationCacheTest.verifiedToken("jti-1"));
+
+        this.store.revoke("jti-1", Instant.now().minusSeconds(1));
+
+        assertNull(this.cache.get("token-1"));
+        verify(this.valueOperations, never()).set(any(), any(), any(Duration.class));
+        verify(this.redisTemplate, never()).convertAndSend(anyString(), any());
+    }
+
+    @Test
+    void isRevokedByTokenId() {
+        when(this.redisTemplate.hasKey(KEY_PREFIX + "jti-1")).thenReturn(true);
+        when(this.redisTemplate.hasKey(KEY_PREFIX + "jti-2")).thenReturn(false);
+
+        assertTrue(this.store.isRevoked("jti-1"));
+        assertFalse(this.store.isRevoked("jti-2"));
+    }
+
+    @Test
+    void redisFailureIsNotRevoked() {
+        when(this.redisTemplate.hasKey(any())).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+        assertFalse(this.store.isRevoked("jti-1"));
+    }
+
+    @Test
+    void revocationMessageEvictsLocalCache() {
+        doReturn(RedisSerializer.string()).when(this.redisTemplate).getValueSerializer();
+        this.cache.put("token-1", TokenAuthenticationCacheTest.verifiedToken("jti-1"));
+
+        this.store.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "jti-1".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertNull(this.cache.get("token-1"));
+        assertTrue(this.cache.isRevoked("jti-1"));
+    }
+}
@@ -0,0 +1,120 @@
+package io.naivekyo.security.token;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * <p>
+ *     revocation of {@link TokenAuthenticationCache}: eviction by token id and the tombstone of a revoked token.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+class TokenAuthenticationCacheTest {
+
+    private static final int RACE_ROUNDS = 10_000;
+
+    @Test
+    void putThenGet() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(100, Duration.ofMinutes(5));
+        TokenAuthentication authentication = cache.put("token-1", verifiedToken("jti-1"));
+
+        assertNotNull(authentication);
+        assertSame(authentication, cache.get("token-1"));
+        assertEquals("jti-1", authentication.getTokenId());
+        assertFalse(cache.isRevoked("jti-1"));
+    }
+
+    @Test
+    void evictByTokenId() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(100, Duration.ofMinutes(5));
+        cache.put("token-1", verifiedToken("jti-1"));
+        cache.put("token-2", verifiedToken("jti-2"));
+
+        cache.evict("jti-1");
+
+        assertNull(cache.get("token-1"));
+        assertNotNull(cache.get("token-2"));
+        assertTrue(cache.isRevoked("jti-1"));
+        assertFalse(cache.isRevoked("jti-2"));
+    }
+
+    @Test
+    void putAfterEvictIsRejected() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(100, Duration.ofMinutes(5));
+        // verification started before the revocation and finishes after it
+        cache.evict("jti-1");
+
+        assertNull(cache.put("token-1", verifiedToken("jti-1")));
+        assertNull(cache.get("token-1"));
+    }
+
+    @Test
+    void evictRacingPutNeverLeavesTokenCached() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < RACE_ROUNDS; round++) {
+                String tokenId = "jti-" + round;
+                String token = "token-" + round;
+                TokenAuthenticationCache cache = new TokenAuthenticationCache(100, Duration.ofMinutes(5));
+                CyclicBarrier barrier = new CyclicBarrier(2);
+                VerifiedToken verifiedToken = verifiedToken(tokenId);
+                Future<TokenAuthentication> put = executor.submit(() -> {
+                    barrier.await();
+                    return cache.put(token, verifiedToken);
+                });
+                Future<?> evict = executor.submit(() -> {
+                    barrier.await();
+                    cache.evict(tokenId);
+                    return null;
+                });
+                put.get();
+                evict.get();
+
+                // whichever finishes first, the tombstone wins
+                assertNull(cache.get(token), "round " + round);
+                assertTrue(cache.isRevoked(tokenId));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void expiredTokenIsNotCached() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(100, Duration.ofMinutes(5));
+        VerifiedToken expired = new VerifiedToken("jti-1", "user", null, Instant.now().minusSeconds(1));
+
+        assertNotNull(cache.put("token-1", expired));
+        assertNull(cache.get("token-1"));
+    }
+
+    @Test
+    void clearKeepsTombstones() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(100, Duration.ofMinutes(5));
+        cache.put("token-1", verifiedToken("jti-1"));
+        cache.evict("jti-2");
+
+        cache.clear();
+
+        assertNull(cache.get("token-1"));
+        assertTrue(cache.isRevoked("jti-2"));
+    }
+
+    static VerifiedToken verifiedToken(String tokenId) {
+        return new VerifiedToken(tokenId, "user", null, Instant.now().plusSeconds(3600));
+    }
+}
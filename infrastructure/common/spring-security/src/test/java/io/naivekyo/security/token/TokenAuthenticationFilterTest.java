@@ -0,0 +1,171 @@
+package io.naivekyo.security.token;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     {@link TokenAuthenticationFilter}: cached verification, revocation, fail-open revocation check and
+ *     invalid tokens on permitted requests.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+class TokenAuthenticationFilterTest {
+
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    private TokenAuthenticationCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = new TokenAuthenticationCache(100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void repeatRequestIsServedFromCache() throws Exception {
+        TokenAuthenticationFilter filter = filter(TokenRevocationStore.local(this.cache));
+
+        Authentication first = doFilter(filter, "/api/orders", "token-1").authentication;
+        Authentication second = doFilter(filter, "/api/orders", "token-1").authentication;
+
+        assertInstanceOf(TokenAuthentication.class, first);
+        assertEquals(first, second);
+        assertEquals(1, this.verifications.get());
+    }
+
+    @Test
+    void revokedTokenIsRejected() throws Exception {
+        TokenRevocationStore store = TokenRevocationStore.local(this.cache);
+        TokenAuthenticationFilter filter = filter(store);
+        doFilter(filter, "/api/orders", "token-1");
+
+        store.revoke("jti-token-1", Instant.now().plusSeconds(600));
+        Result result = doFilter(filter, "/api/orders", "token-1");
+
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), result.response.getStatus());
+        assertNull(result.chain.getRequest());
+        assertEquals(2, this.verifications.get());
+    }
+
+    @Test
+    void revocationCheckFailsOpenWhenRedisIsDown() throws Exception {
+        @SuppressWarnings("unchecked")
+        RedisTemplate<Object, Object> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.hasKey(any())).thenThrow(new RedisConnectionFailureException("connection refused"));
+        TokenAuthenticationFilter filter = filter(new RedisTokenRevocationStore(redisTemplate, this.cache,
+                "security:token:revoked:", "security:token:revocation", Duration.ofDays(30)));
+
+        Result result = doFilter(filter, "/api/orders", "token-1");
+
+        assertInstanceOf(TokenAuthentication.class, result.authentication);
+        assertNotNull(result.chain.getRequest());
+        // the token is cached as usual, the next request doesn't reach redis
+        assertNotNull(this.cache.get("token-1"));
+    }
+
+    @Test
+    void invalidTokenIsRejected() throws Exception {
+        Result result = doFilter(filter(TokenRevocationStore.local(this.cache)), "/api/orders", "invalid");
+
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), result.response.getStatus());
+        assertNull(result.chain.getRequest());
+    }
+
+    @Test
+    void invalidTokenOnPermittedRequestIsAnonymous() throws Exception {
+        Result result = doFilter(filter(TokenRevocationStore.local(this.cache)), "/public/ping", "invalid");
+
+        assertEquals(HttpStatus.OK.value(), result.response.getStatus());
+        assertNotNull(result.chain.getRequest());
+        assertNull(result.authentication);
+    }
+
+    @Test
+    void requestWithoutTokenIsAnonymous() throws Exception {
+        Result result = doFilter(filter(TokenRevocationStore.local(this.cache)), "/api/orders", null);
+
+        assertNotNull(result.chain.getRequest());
+        assertNull(result.authentication);
+        assertEquals(0, this.verifications.get());
+    }
+
+    private TokenAuthenticationFilter filter(TokenRevocationStore store) {
+        TokenVerifier verifier = token -> {
+            this.verifications.incrementAndGet();
+            if ("invalid".equals(token))
+                throw new BadCredentialsException("invalid token");
+            return new VerifiedToken("jti-" + token, "user", null, Instant.now().plusSeconds(3600));
+        };
+        return new TokenAuthenticationFilter(verifier, this.cache, store, new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                new AntPathRequestMatcher("/public/**"), "Authorization", "Bearer ");
+    }
+
+    private static Result doFilter(TokenAuthenticationFilter filter, String path, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setServletPath(path);
+        if (token != null)
+            request.addHeader("Authorization", "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+                authentication.set(SecurityContextHolder.getContext().getAuthentication());
+                super.doFilter(request, response);
+            }
+        };
+        filter.doFilter(request, response, chain);
+        SecurityContextHolder.clearContext();
+        return new Result(response, chain, authentication.get());
+    }
+
+    private static class Result {
+
+        final MockHttpServletResponse response;
+
+        final MockFilterChain chain;
+
+        final Authentication authentication;
+
+        Result(MockHttpServletResponse response, MockFilterChain chain, Authentication authentication) {
+            this.response = response;
+            this.chain = chain;
+            this.authentication = authentication;
+        }
+    }
+}
@@ -3,10 +3,7 @@ package io.naivekyo.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
-import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import io.naivekyo.jackson.DateTimeCodecs;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -15,8 +12,6 @@ import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
-import java.time.format.DateTimeFormatter;
-
 /**
  * <p>
  *     Jackson enhanced configuration.
@@ -28,10 +23,6 @@ import java.time.format.DateTimeFormatter;
 @AutoConfiguration(before = JacksonAutoConfiguration.class)
 public class EnhancedJacksonAutoConfiguration {
     
-    private static final String NORMAL_DATE_TIME_FORMATTER = "yyyy-MM-dd HH:mm:ss";
-
-    private static final String NORMAL_DATE_FORMATTER = "yyyy-MM-dd";
-
     @Bean
     @ConditionalOnClass(JavaTimeModule.class)
     @ConditionalOnMissingBean
@@ -47,20 +38,25 @@ public class EnhancedJacksonAutoConfiguration {
     }
 
     @Bean
-    Jackson2ObjectMapperBuilderCustomizer jacksonCustomizer() {
+    public Jackson2ObjectMapperBuilderCustomizer jacksonCustomizer() {
         return new JacksonCustomizer();
     }
 
+    /**
+     * register fixed pattern date (de)serializers: {@link DateTimeCodecs#DATE_PATTERN}, {@link DateTimeCodecs#DATE_TIME_PATTERN},
+     * Date and Instant keep the default ISO-8601 format.
+     */
     static class JacksonCustomizer implements Jackson2ObjectMapperBuilderCustomizer {
         @Override
         public void customize(Jackson2ObjectMapperBuilder jacksonObjectMapperBuilder) {
-            DateTimeFormatter dateDTF = DateTimeFormatter.ofPattern(NORMAL_DATE_FORMATTER);
-            DateTimeFormatter dateTimeDTF = DateTimeFormatter.ofPattern(NORMAL_DATE_TIME_FORMATTER);
-
-            jacksonObjectMapperBuilder.serializers(new LocalDateSerializer(dateDTF));
-            jacksonObjectMapperBuilder.serializers(new LocalDateTimeSerializer(dateTimeDTF));
-            jacksonObjectMapperBuilder.deserializers(new LocalDateDeserializer(dateDTF));
-            jacksonObjectMapperBuilder.deserializers(new LocalDateTimeDeserializer(dateTimeDTF));
+            jacksonObjectMapperBuilder.serializers(new DateTimeCodecs.LocalDateCodecSerializer());
+            jacksonObjectMapperBuilder.serializers(new DateTimeCodecs.LocalDateTimeCodecSerializer());
+            jacksonObjectMapperBuilder.serializers(new DateTimeCodecs.DateCodecSerializer());
+            jacksonObjectMapperBuilder.serializers(new DateTimeCodecs.InstantCodecSerializer());
+            jacksonObjectMapperBuilder.deserializers(new DateTimeCodecs.LocalDateCodecDeserializer());
+            jacksonObjectMapperBuilder.deserializers(new DateTimeCodecs.LocalDateTimeCodecDeserializer());
+            jacksonObjectMapperBuilder.deserializers(new DateTimeCodecs.DateCodecDeserializer());
+            jacksonObjectMapperBuilder.deserializers(new DateTimeCodecs.InstantCodecDeserializer());
         }
     }
 }
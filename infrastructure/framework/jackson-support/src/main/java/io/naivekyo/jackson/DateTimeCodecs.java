@@ -0,0 +1,561 @@
+package io.naivekyo.jackson;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.DateDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.databind.ser.std.DateSerializer;
+import com.fasterxml.jackson.databind.ser.std.SqlDateSerializer;
+import com.fasterxml.jackson.databind.ser.std.SqlTimeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.databind.util.StdDateFormat;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.InstantSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+
+import java.io.IOException;
+import java.text.DateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * <p>
+ *     Jackson (de)serializers for the fixed patterns yyyy-MM-dd and yyyy-MM-dd HH:mm:ss,
+ *     and for the default ISO-8601 output of {@link Date} and {@link Instant}:
+ *     yyyy-MM-dd'T'HH:mm:ss.SSS+HH:MM in the mapper time zone ({@link StdDateFormat})
+ *     and yyyy-MM-dd'T'HH:mm:ss[.SSS|.SSSSSS|.SSSSSSSSS]Z ({@link DateTimeFormatter#ISO_INSTANT}).
+ * </p>
+ * <p>
+ *     serializers write digits into a char array and hand it to {@link JsonGenerator} directly,
+ *     deserializers parse the parser's raw char buffer, neither of them create an intermediate
+ *     {@link String} or {@link java.time.temporal.TemporalAccessor}. <br/>
+ *     anything the fast path don't accept (out of range year, malformed text, numeric timestamp, field with
+ *     {@link JsonFormat} override...) is handed to the standard jackson implementation, so the behavior is unchanged.
+ *     {@link Date} and {@link Instant} also use the standard implementation when dates are written as timestamps or
+ *     a custom {@link DateFormat} is configured (spring.jackson.date-format).
+ * </p>
+ * <p>
+ *     all codecs are scalar (de)serializers, so type ids are written and read as usual when default typing is enabled
+ *     (e.g. the serializer of mybatis redis cache).
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public final class DateTimeCodecs {
+
+    public static final String DATE_PATTERN = "yyyy-MM-dd";
+
+    public static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_PATTERN);
+
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_PATTERN);
+
+    private static final int DATE_LENGTH = 10;
+
+    private static final int DATE_TIME_LENGTH = 19;
+
+    // yyyy-MM-ddTHH:mm:ss.SSS+HH:MM
+    private static final int ISO_DATE_LENGTH = 29;
+
+    // yyyy-MM-ddTHH:mm:ssZ, up to 9 fraction digits
+    private static final int ISO_INSTANT_MIN_LENGTH = 20;
+
+    private static final int ISO_INSTANT_MAX_LENGTH = 30;
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    // java.util.Date is formatted with a julian/gregorian calendar, only years after the cutover are handled
+    private static final int MIN_DATE_YEAR = 1600;
+
+    private static final int MIN_INSTANT_YEAR = 0;
+
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    private DateTimeCodecs() {
+    }
+
+    // ================================ LocalDate ========================
+
+    public static class LocalDateCodecSerializer extends StdScalarSerializer<LocalDate> implements ContextualSerializer {
+
+        private final LocalDateSerializer fallback = new LocalDateSerializer(DATE_FORMATTER);
+
+        public LocalDateCodecSerializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int year = value.getYear();
+            if (!isSupportedYear(year)) {
+                this.fallback.serialize(value, gen, provider);
+                return;
+            }
+            char[] buf = new char[DATE_LENGTH];
+            writeDate(buf, year, value.getMonthValue(), value.getDayOfMonth());
+            gen.writeString(buf, 0, DATE_LENGTH);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            return hasFormatOverride(findFormatOverrides(provider, property, handledType()))
+                    ? this.fallback.createContextual(provider, property) : this;
+        }
+    }
+
+    public static class LocalDateCodecDeserializer extends StdScalarDeserializer<LocalDate> implements ContextualDeserializer {
+
+        private final LocalDateDeserializer fallback = new LocalDateDeserializer(DATE_FORMATTER);
+
+        public LocalDateCodecDeserializer() {
+            super(LocalDate.class);
+        }
+
+        @Override
+        public LocalDate deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING) && p.getTextLength() == DATE_LENGTH) {
+                char[] buf = p.getTextCharacters();
+                int offset = p.getTextOffset();
+                if (isValidDate(buf, offset))
+                    return LocalDate.of(readYear(buf, offset), read2Digits(buf, offset + 5), read2Digits(buf, offset + 8));
+            }
+            return this.fallback.deserialize(p, ctxt);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            return hasFormatOverride(findFormatOverrides(ctxt, property, handledType()))
+                    ? this.fallback.createContextual(ctxt, property) : this;
+        }
+    }
+
+    // ================================ LocalDateTime ========================
+
+    public static class LocalDateTimeCodecSerializer extends StdScalarSerializer<LocalDateTime> implements ContextualSerializer {
+
+        private final LocalDateTimeSerializer fallback = new LocalDateTimeSerializer(DATE_TIME_FORMATTER);
+
+        public LocalDateTimeCodecSerializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public void serialize(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int year = value.getYear();
+            if (!isSupportedYear(year)) {
+                this.fallback.serialize(value, gen, provider);
+                return;
+            }
+            char[] buf = new char[DATE_TIME_LENGTH];
+            writeDate(buf, year, value.getMonthValue(), value.getDayOfMonth());
+            writeTime(buf, value.getHour(), value.getMinute(), value.getSecond());
+            gen.writeString(buf, 0, DATE_TIME_LENGTH);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            return hasFormatOverride(findFormatOverrides(provider, property, handledType()))
+                    ? this.fallback.createContextual(provider, property) : this;
+        }
+    }
+
+    public static class LocalDateTimeCodecDeserializer extends StdScalarDeserializer<LocalDateTime> implements ContextualDeserializer {
+
+        private final LocalDateTimeDeserializer fallback = new LocalDateTimeDeserializer(DATE_TIME_FORMATTER);
+
+        public LocalDateTimeCodecDeserializer() {
+            super(LocalDateTime.class);
+        }
+
+        @Override
+        public LocalDateTime deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING) && p.getTextLength() == DATE_TIME_LENGTH) {
+                char[] buf = p.getTextCharacters();
+                int offset = p.getTextOffset();
+                if (isValidDate(buf, offset) && isValidTime(buf, offset, ' '))
+                    return LocalDateTime.of(readYear(buf, offset), read2Digits(buf, offset + 5), read2Digits(buf, offset + 8),
+                            read2Digits(buf, offset + 11), read2Digits(buf, offset + 14), read2Digits(buf, offset + 17));
+            }
+            return this.fallback.deserialize(p, ctxt);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            return hasFormatOverride(findFormatOverrides(ctxt, property, handledType()))
+                    ? this.fallback.createContextual(ctxt, property) : this;
+        }
+    }
+
+    // ================================ Date ========================
+
+    public static class DateCodecSerializer extends StdScalarSerializer<Date> implements ContextualSerializer {
+
+        private final DateSerializer fallback = DateSerializer.instance;
+
+        // serializers are also looked up by super class, keep the sql types on their own serializers
+        private final SqlDateSerializer sqlDateFallback = new SqlDateSerializer();
+
+        private final SqlTimeSerializer sqlTimeFallback = new SqlTimeSerializer();
+
+        public DateCodecSerializer() {
+            super(Date.class);
+        }
+
+        @Override
+        public void serialize(Date value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            if (value instanceof java.sql.Date) {
+                this.sqlDateFallback.serialize((java.sql.Date) value, gen, provider);
+                return;
+            }
+            if (value instanceof java.sql.Time) {
+                this.sqlTimeFallback.serialize((java.sql.Time) value, gen, provider);
+                return;
+            }
+            DateFormat dateFormat = provider.getConfig().getDateFormat();
+            if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS) || !isDefaultDateFormat(dateFormat)) {
+                this.fallback.serialize(value, gen, provider);
+                return;
+            }
+            TimeZone timeZone = ((StdDateFormat) dateFormat).getTimeZone();
+            long millis = value.getTime();
+            int offset = (timeZone == null ? UTC : timeZone).getOffset(millis);
+            long localMillis = millis + offset;
+            long epochDay = Math.floorDiv(localMillis, MILLIS_PER_DAY);
+            int millisOfDay = (int) Math.floorMod(localMillis, MILLIS_PER_DAY);
+            char[] buf = new char[ISO_DATE_LENGTH];
+            if (!writeEpochDay(buf, epochDay, MIN_DATE_YEAR)) {
+                this.fallback.serialize(value, gen, provider);
+                return;
+            }
+            int secondOfDay = millisOfDay / 1000;
+            writeTime(buf, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+            buf[10] = 'T';
+            buf[19] = '.';
+            write3Digits(buf, 20, millisOfDay % 1000);
+            // same truncation as StdDateFormat, second part of historical offsets is dropped
+            int offsetMinutes = offset / 60_000;
+            buf[23] = offset < 0 ? '-' : '+';
+            write2Digits(buf, 24, Math.abs(offsetMinutes / 60));
+            buf[26] = ':';
+            write2Digits(buf, 27, Math.abs(offsetMinutes % 60));
+            gen.writeString(buf, 0, ISO_DATE_LENGTH);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            return hasFormatOverride(findFormatOverrides(provider, property, handledType()))
+                    ? this.fallback.createContextual(provider, property) : this;
+        }
+    }
+
+    public static class DateCodecDeserializer extends StdScalarDeserializer<Date> implements ContextualDeserializer {
+
+        private final DateDeserializers.DateDeserializer fallback = DateDeserializers.DateDeserializer.instance;
+
+        public DateCodecDeserializer() {
+            super(Date.class);
+        }
+
+        @Override
+        public Date deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING) && p.getTextLength() == ISO_DATE_LENGTH
+                    && isDefaultDateFormat(ctxt.getConfig().getDateFormat())) {
+                char[] buf = p.getTextCharacters();
+                int offset = p.getTextOffset();
+                if (isValidDate(buf, offset) && readYear(buf, offset) >= MIN_DATE_YEAR && isValidTime(buf, offset, 'T')
+                        && buf[offset + 19] == '.' && isValidOffset(buf, offset + 23)) {
+                    int millisOfSecond = read3Digits(buf, offset + 20);
+                    if (millisOfSecond >= 0) {
+                        int offsetMinutes = read2Digits(buf, offset + 24) * 60 + read2Digits(buf, offset + 27);
+                        long epochSecond = toEpochSecond(buf, offset)
+                                - (buf[offset + 23] == '-' ? -offsetMinutes : offsetMinutes) * 60L;
+                        return new Date(epochSecond * 1000L + millisOfSecond);
+                    }
+                }
+            }
+            return this.fallback.deserialize(p, ctxt);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            return hasFormatOverride(findFormatOverrides(ctxt, property, handledType()))
+                    ? this.fallback.createContextual(ctxt, property) : this;
+        }
+    }
+
+    // ================================ Instant ========================
+
+    public static class InstantCodecSerializer extends StdScalarSerializer<Instant> implements ContextualSerializer {
+
+        private final InstantSerializer fallback = InstantSerializer.INSTANCE;
+
+        public InstantCodecSerializer() {
+            super(Instant.class);
+        }
+
+        @Override
+        public void serialize(Instant value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            char[] buf = new char[ISO_INSTANT_MAX_LENGTH];
+            long epochSecond = value.getEpochSecond();
+            if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    || !writeEpochDay(buf, Math.floorDiv(epochSecond, SECONDS_PER_DAY), MIN_INSTANT_YEAR)) {
+                this.fallback.serialize(value, gen, provider);
+                return;
+            }
+            int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+            writeTime(buf, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+            buf[10] = 'T';
+            // same fraction groups as ISO_INSTANT: none, millis, micros or nanos
+            int nano = value.getNano();
+            int length = 19;
+            if (nano > 0) {
+                buf[length++] = '.';
+                if (nano % 1_000_000 == 0) {
+                    write3Digits(buf, length, nano / 1_000_000);
+                    length += 3;
+                } else if (nano % 1000 == 0) {
+                    write3Digits(buf, length, nano / 1_000_000);
+                    write3Digits(buf, length + 3, nano / 1000 % 1000);
+                    length += 6;
+                } else {
+                    write3Digits(buf, length, nano / 1_000_000);
+                    write3Digits(buf, length + 3, nano / 1000 % 1000);
+                    write3Digits(buf, length + 6, nano % 1000);
+                    length += 9;
+                }
+            }
+            buf[length++] = 'Z';
+            gen.writeString(buf, 0, length);
+        }
+
+        @Override
+        public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) throws JsonMappingException {
+            return hasFormatOverride(findFormatOverrides(provider, property, handledType()))
+                    ? this.fallback.createContextual(provider, property) : this;
+        }
+    }
+
+    public static class InstantCodecDeserializer extends StdScalarDeserializer<Instant> implements ContextualDeserializer {
+
+        private final InstantDeserializer<Instant> fallback = InstantDeserializer.INSTANT;
+
+        public InstantCodecDeserializer() {
+            super(Instant.class);
+        }
+
+        @Override
+        public Instant deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            if (p.hasToken(JsonToken.VALUE_STRING)) {
+                int length = p.getTextLength();
+                if (length >= ISO_INSTANT_MIN_LENGTH && length <= ISO_INSTANT_MAX_LENGTH) {
+                    char[] buf = p.getTextCharacters();
+                    int offset = p.getTextOffset();
+                    int nano = isValidDate(buf, offset) && isValidTime(buf, offset, 'T') && buf[offset + length - 1] == 'Z'
+                            ? readFraction(buf, offset + 19, length - ISO_INSTANT_MIN_LENGTH) : -1;
+                    if (nano >= 0)
+                        return Instant.ofEpochSecond(toEpochSecond(buf, offset), nano);
+                }
+            }
+            return this.fallback.deserialize(p, ctxt);
+        }
+
+        @Override
+        public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) throws JsonMappingException {
+            return hasFormatOverride(findFormatOverrides(ctxt, property, handledType()))
+                    ? this.fallback.createContextual(ctxt, property) : this;
+        }
+    }
+
+    // ================================ helper ========================
+
+    /**
+     * the default {@link StdDateFormat} of ObjectMapper (time zone and locale may differ),
+     * anything else is a custom date format.
+     */
+    private static boolean isDefaultDateFormat(DateFormat dateFormat) {
+        return dateFormat.getClass() == StdDateFormat.class && ((StdDateFormat) dateFormat).isColonIncludedInTimeZone();
+    }
+
+    private static boolean hasFormatOverride(JsonFormat.Value format) {
+        return format != null && (format.hasPattern() || format.hasShape() || format.hasTimeZone() || format.hasLocale());
+    }
+
+    private static boolean isSupportedYear(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    /**
+     * check yyyy-MM-dd, day must be valid within the month so that no SMART resolving is needed.
+     */
+    private static boolean isValidDate(char[] buf, int offset) {
+        if (buf[offset + 4] != '-' || buf[offset + 7] != '-')
+            return false;
+        int year = readYear(buf, offset);
+        int month = read2Digits(buf, offset + 5);
+        int day = read2Digits(buf, offset + 8);
+        if (year < 1 || month < 1 || month > 12 || day < 1)
+            return false;
+        return day <= 28 || day <= Month.of(month).length(Year.isLeap(year));
+    }
+
+    /**
+     * check the HH:mm:ss part of yyyy-MM-dd HH:mm:ss, or yyyy-MM-dd'T'HH:mm:ss with separator 'T'.
+     */
+    private static boolean isValidTime(char[] buf, int offset, char separator) {
+        if (buf[offset + 10] != separator || buf[offset + 13] != ':' || buf[offset + 16] != ':')
+            return false;
+        int hour = read2Digits(buf, offset + 11);
+        int minute = read2Digits(buf, offset + 14);
+        int second = read2Digits(buf, offset + 17);
+        return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59 && second >= 0 && second <= 59;
+    }
+
+    /**
+     * check +HH:MM or -HH:MM.
+     */
+    private static boolean isValidOffset(char[] buf, int offset) {
+        if ((buf[offset] != '+' && buf[offset] != '-') || buf[offset + 3] != ':')
+            return false;
+        int hour = read2Digits(buf, offset + 1);
+        int minute = read2Digits(buf, offset + 4);
+        return hour >= 0 && hour <= 18 && minute >= 0 && minute <= 59;
+    }
+
+    /**
+     * @param digits fraction length including the leading '.', 0 means no fraction
+     * @return nano of second, -1 if the fraction is malformed
+     */
+    private static int readFraction(char[] buf, int offset, int digits) {
+        if (digits == 0)
+            return 0;
+        if (buf[offset] != '.' || digits == 1)
+            return -1;
+        int nano = 0;
+        for (int i = 1; i < digits; i++) {
+            int digit = buf[offset + i] - '0';
+            if (digit < 0 || digit > 9)
+                return -1;
+            nano = nano * 10 + digit;
+        }
+        for (int i = digits; i <= 9; i++)
+            nano *= 10;
+        return nano;
+    }
+
+    /**
+     * epoch second of a validated yyyy-MM-dd?HH:mm:ss in UTC.
+     */
+    private static long toEpochSecond(char[] buf, int offset) {
+        long epochDay = toEpochDay(readYear(buf, offset), read2Digits(buf, offset + 5), read2Digits(buf, offset + 8));
+        return epochDay * SECONDS_PER_DAY + read2Digits(buf, offset + 11) * 3600L
+                + read2Digits(buf, offset + 14) * 60L + read2Digits(buf, offset + 17);
+    }
+
+    /**
+     * proleptic gregorian days since 1970-01-01, same as {@link LocalDate#toEpochDay()} without the allocation.
+     */
+    private static long toEpochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = Math.floorDiv(y, 400);
+        long yearOfEra = y - era * 400;
+        long dayOfYear = (153L * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+        long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    /**
+     * write yyyy-MM-dd of the epoch day, inverse of {@link #toEpochDay(int, int, int)}.
+     * @return false if the year is out of [minYear, 9999], nothing is written then
+     */
+    private static boolean writeEpochDay(char[] buf, long epochDay, int minYear) {
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long dayOfEra = z - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long mp = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < minYear || year > 9999)
+            return false;
+        writeDate(buf, (int) year, month, day);
+        return true;
+    }
+
+    private static int readYear(char[] buf, int offset) {
+        return read2Digits(buf, offset) * 100 + read2Digits(buf, offset + 2);
+    }
+
+    /**
+     * @return value of two digits, a negative number if they are not digits
+     */
+    private static int read2Digits(char[] buf, int offset) {
+        int high = buf[offset] - '0';
+        int low = buf[offset + 1] - '0';
+        if (high < 0 || high > 9 || low < 0 || low > 9)
+            return -10000;
+        return high * 10 + low;
+    }
+
+    /**
+     * @return value of three digits, a negative number if they are not digits
+     */
+    private static int read3Digits(char[] buf, int offset) {
+        int low = buf[offset + 2] - '0';
+        if (low < 0 || low > 9)
+            return -1;
+        return read2Digits(buf, offset) * 10 + low;
+    }
+
+    private static void writeDate(char[] buf, int year, int month, int day) {
+        write2Digits(buf, 0, year / 100);
+        write2Digits(buf, 2, year % 100);
+        buf[4] = '-';
+        write2Digits(buf, 5, month);
+        buf[7] = '-';
+        write2Digits(buf, 8, day);
+    }
+
+    private static void writeTime(char[] buf, int hour, int minute, int second) {
+        buf[10] = ' ';
+        write2Digits(buf, 11, hour);
+        buf[13] = ':';
+        write2Digits(buf, 14, minute);
+        buf[16] = ':';
+        write2Digits(buf, 17, second);
+    }
+
+    private static void write3Digits(char[] buf, int offset, int value) {
+        buf[offset] = (char) ('0' + value / 100);
+        write2Digits(buf, offset + 1, value % 100);
+    }
+
+    private static void write2Digits(char[] buf, int offset, int value) {
+        buf[offset] = (char) ('0' + value / 10);
+        buf[offset + 1] = (char) ('0' + value % 10);
+    }
+}
@@ -0,0 +1,190 @@
+package io.naivekyo.jackson;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.LocalDateTimeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
+import io.naivekyo.config.EnhancedJacksonAutoConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * <p>
+ *     {@link DateTimeCodecs} must behave exactly like the {@link DateTimeFormatter} based jsr310 (de)serializers,
+ *     and like the stock {@link Date} / {@link Instant} (de)serializers.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+class DateTimeCodecsTest {
+
+    private static final int RANDOM_VALUES = 100_000;
+
+    private final ObjectMapper codecMapper = build(true);
+
+    private final ObjectMapper formatterMapper = build(false);
+
+    @Test
+    void randomValuesMatchFormatterCodecs() throws Exception {
+        Random random = new Random(20230418L);
+        long minDay = LocalDate.of(1, 1, 1).toEpochDay();
+        long maxDay = LocalDate.of(9999, 12, 31).toEpochDay();
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            LocalDate date = LocalDate.ofEpochDay(minDay + (long) (random.nextDouble() * (maxDay - minDay + 1)));
+            LocalDateTime dateTime = date.atTime(random.nextInt(24), random.nextInt(60), random.nextInt(60),
+                    random.nextInt(1_000_000_000));
+
+            String dateJson = this.codecMapper.writeValueAsString(date);
+            assertEquals(this.formatterMapper.writeValueAsString(date), dateJson);
+            assertEquals(date, this.codecMapper.readValue(dateJson, LocalDate.class));
+
+            String dateTimeJson = this.codecMapper.writeValueAsString(dateTime);
+            assertEquals(this.formatterMapper.writeValueAsString(dateTime), dateTimeJson);
+            assertEquals(this.formatterMapper.readValue(dateTimeJson, LocalDateTime.class),
+                    this.codecMapper.readValue(dateTimeJson, LocalDateTime.class));
+        }
+    }
+
+    @Test
+    void typedRoundTrip() throws Exception {
+        ObjectMapper typedCodecMapper = typed(this.codecMapper);
+        ObjectMapper typedFormatterMapper = typed(this.formatterMapper);
+        Entity entity = new Entity();
+        entity.bizDate = LocalDate.of(2023, 4, 18);
+        entity.createTime = LocalDateTime.of(2023, 4, 18, 13, 45, 30);
+        entity.updateDate = new Date(1681796730123L);
+        entity.expireAt = Instant.ofEpochSecond(1681796730L, 123456000L);
+
+        String json = typedCodecMapper.writeValueAsString(entity);
+        assertEquals(typedFormatterMapper.writeValueAsString(entity), json);
+        Entity restored = (Entity) typedCodecMapper.readValue(json, Object.class);
+        assertEquals(entity.bizDate, restored.bizDate);
+        assertEquals(entity.createTime, restored.createTime);
+        assertEquals(entity.updateDate, restored.updateDate);
+        assertEquals(entity.expireAt, restored.expireAt);
+    }
+
+    @Test
+    void dateAndInstantAreLossless() throws Exception {
+        Date date = new Date(1700000000123L);
+        assertEquals(date, this.codecMapper.readValue(this.codecMapper.writeValueAsString(date), Date.class));
+        Instant instant = Instant.ofEpochSecond(1700000000L, 123456789L);
+        assertEquals(instant, this.codecMapper.readValue(this.codecMapper.writeValueAsString(instant), Instant.class));
+    }
+
+    @Test
+    void randomDatesMatchStockSerializers() throws Exception {
+        Random random = new Random(20230419L);
+        long minMillis = Instant.parse("1600-01-01T00:00:00Z").toEpochMilli() - 86_400_000L;
+        long maxMillis = Instant.parse("9999-12-31T23:59:59.999Z").toEpochMilli() + 86_400_000L;
+        for (String zone : new String[]{"UTC", "Asia/Shanghai", "America/New_York", "Asia/Kolkata", "America/St_Johns"}) {
+            ObjectMapper codecMapper = this.codecMapper.copy().setTimeZone(TimeZone.getTimeZone(zone));
+            ObjectMapper formatterMapper = this.formatterMapper.copy().setTimeZone(TimeZone.getTimeZone(zone));
+            for (int i = 0; i < RANDOM_VALUES / 5; i++) {
+                long millis = minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+                // mostly recent dates, where daylight saving rules apply
+                if (i % 2 == 0)
+                    millis = 1_700_000_000_000L + random.nextLong() % 3_000_000_000_000L;
+                Date date = new Date(millis);
+                String json = codecMapper.writeValueAsString(date);
+                assertEquals(formatterMapper.writeValueAsString(date), json);
+                assertEquals(formatterMapper.readValue(json, Date.class), codecMapper.readValue(json, Date.class));
+            }
+        }
+    }
+
+    @Test
+    void randomInstantsMatchStockSerializers() throws Exception {
+        Random random = new Random(20230420L);
+        long minSecond = Instant.parse("0000-01-01T00:00:00Z").getEpochSecond() - 86_400L;
+        long maxSecond = Instant.parse("9999-12-31T23:59:59Z").getEpochSecond() + 86_400L;
+        int[] nanoUnits = {1_000_000_000, 1_000_000, 1_000, 1};
+        for (int i = 0; i < RANDOM_VALUES; i++) {
+            long second = minSecond + (long) (random.nextDouble() * (maxSecond - minSecond));
+            int nanoUnit = nanoUnits[i % nanoUnits.length];
+            Instant instant = Instant.ofEpochSecond(second, random.nextInt(1_000_000_000) / nanoUnit * nanoUnit);
+            String json = this.codecMapper.writeValueAsString(instant);
+            assertEquals(this.formatterMapper.writeValueAsString(instant), json);
+            assertEquals(instant, this.codecMapper.readValue(json, Instant.class));
+        }
+    }
+
+    @Test
+    void dateAndInstantFallbacks() throws Exception {
+        // other ISO forms accepted by the stock deserializers
+        for (String json : new String[]{"\"2023-04-18T13:45:30Z\"", "\"2023-04-18T13:45:30.1+0800\"", "\"2023-04-18\"", "1681796730123"}) {
+            assertEquals(this.formatterMapper.readValue(json, Date.class), this.codecMapper.readValue(json, Date.class));
+        }
+        for (String json : new String[]{"\"2023-04-18T13:45:30.1Z\"", "\"2023-04-18T13:45:30+08:00\"", "1681796730.123"}) {
+            assertEquals(this.formatterMapper.readValue(json, Instant.class), this.codecMapper.readValue(json, Instant.class));
+        }
+        // timestamps, custom date format and sql types are written by the stock serializers
+        Date date = new Date(1681796730123L);
+        Instant instant = Instant.ofEpochMilli(1681796730123L);
+        ObjectMapper timestampCodecMapper = this.codecMapper.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper timestampFormatterMapper = this.formatterMapper.copy().enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        assertEquals(timestampFormatterMapper.writeValueAsString(date), timestampCodecMapper.writeValueAsString(date));
+        assertEquals(timestampFormatterMapper.writeValueAsString(instant), timestampCodecMapper.writeValueAsString(instant));
+        ObjectMapper customCodecMapper = this.codecMapper.copy().setDateFormat(new SimpleDateFormat("yyyy/MM/dd HH:mm"));
+        ObjectMapper customFormatterMapper = this.formatterMapper.copy().setDateFormat(new SimpleDateFormat("yyyy/MM/dd HH:mm"));
+        assertEquals(customFormatterMapper.writeValueAsString(date), customCodecMapper.writeValueAsString(date));
+        assertEquals(customFormatterMapper.readValue("\"2023/04/18 13:45\"", Date.class),
+                customCodecMapper.readValue("\"2023/04/18 13:45\"", Date.class));
+        Object[] sqlValues = {new java.sql.Date(date.getTime()), new java.sql.Time(date.getTime()), new java.sql.Timestamp(date.getTime())};
+        for (Object value : sqlValues) {
+            assertEquals(this.formatterMapper.writeValueAsString(value), this.codecMapper.writeValueAsString(value));
+        }
+    }
+
+    private static ObjectMapper build(boolean codecs) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        // spring boot default
+        builder.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        builder.modulesToInstall(new JavaTimeModule());
+        if (codecs) {
+            new EnhancedJacksonAutoConfiguration().jacksonCustomizer().customize(builder);
+        } else {
+            DateTimeFormatter dateDTF = DateTimeFormatter.ofPattern(DateTimeCodecs.DATE_PATTERN);
+            DateTimeFormatter dateTimeDTF = DateTimeFormatter.ofPattern(DateTimeCodecs.DATE_TIME_PATTERN);
+            builder.serializers(new LocalDateSerializer(dateDTF), new LocalDateTimeSerializer(dateTimeDTF));
+            builder.deserializers(new LocalDateDeserializer(dateDTF), new LocalDateTimeDeserializer(dateTimeDTF));
+        }
+        return builder.build();
+    }
+
+    /**
+     * same default typing as the serializer of mybatis redis cache.
+     */
+    private static ObjectMapper typed(ObjectMapper objectMapper) {
+        ObjectMapper typedObjectMapper = objectMapper.copy();
+        typedObjectMapper.activateDefaultTyping(typedObjectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return typedObjectMapper;
+    }
+
+    static class Entity {
+
+        public LocalDate bizDate;
+
+        public LocalDateTime createTime;
+
+        public Date updateDate;
+
+        public Instant expireAt;
+    }
+}
@@ -0,0 +1,215 @@
+package io.naivekyo.cache;
+
+import org.apache.ibatis.cache.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * <p>
+ *     Mybatis second-level cache implementation which stores query results of one mapper namespace in Redis. <br/>
+ *     enable it per mapper, e.g. <code>@CacheNamespace(implementation = MybatisRedisCache.class)</code> or
+ *     <code>&lt;cache type="io.naivekyo.cache.MybatisRedisCache"/&gt;</code>.
+ * </p>
+ * <p>
+ *     every namespace owns a generation counter, entry key: mybatis:cache:{namespace}:${generation}:${sha-256(cache-key)}. <br/>
+ *     mybatis cache key contains the whole sql and its parameters, it is hashed to keep redis keys short. <br/>
+ *     {@link #clear()} only increase the counter instead of scanning keys, stale entries are released by their ttl. <br/>
+ *     all keys of one namespace share the same hash tag, so the lua scripts also work on redis cluster.
+ * </p>
+ * <p>
+ *     Mybatis instantiate cache itself, so the {@link RedisTemplate} and value serializer are bound by
+ *     {@link io.naivekyo.config.EnhancedMybatisPlusAutoConfiguration} through {@link #bind(RedisTemplate, RedisSerializer)}.
+ *     redis failures are logged and treated as cache miss, they never break the query.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class MybatisRedisCache implements Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(MybatisRedisCache.class);
+
+    private static final String KEY_PREFIX = "mybatis:cache:";
+
+    private static final String KEY_DIGEST_ALGORITHM = "SHA-256";
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // default entry ttl: 30 minutes
+    private static final long DEFAULT_TIME_TO_LIVE = 30 * 60 * 1000L;
+
+    // KEYS[1]: generation key; ARGV[1]: entry key prefix; ARGV[2]: cache key
+    private static final RedisScript<byte[]> GET_SCRIPT = RedisScript.of(
+            "local generation = redis.call('GET', KEYS[1]) or '0' " +
+            "return redis.call('GET', ARGV[1] .. generation .. ':' .. ARGV[2])", byte[].class);
+
+    // KEYS[1]: generation key; ARGV[1]: entry key prefix; ARGV[2]: cache key; ARGV[3]: value; ARGV[4]: ttl(ms)
+    private static final RedisScript<Long> PUT_SCRIPT = RedisScript.of(
+            "local generation = redis.call('GET', KEYS[1]) or '0' " +
+            "redis.call('SET', ARGV[1] .. generation .. ':' .. ARGV[2], ARGV[3], 'PX', ARGV[4]) " +
+            "return 1", Long.class);
+
+    // KEYS[1]: generation key; ARGV[1]: entry key prefix; ARGV[2]: cache key
+    private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of(
+            "local generation = redis.call('GET', KEYS[1]) or '0' " +
+            "return redis.call('DEL', ARGV[1] .. generation .. ':' .. ARGV[2])", Long.class);
+
+    private static volatile RedisTemplate<Object, Object> redisTemplate;
+
+    private static volatile RedisSerializer<Object> valueSerializer;
+
+    private final String id;
+
+    private final List<Object> generationKey;
+
+    private final byte[] entryKeyPrefix;
+
+    private long timeToLive = DEFAULT_TIME_TO_LIVE;
+
+    public MybatisRedisCache(String id) {
+        if (id == null)
+            throw new IllegalArgumentException("Cache instances require an ID");
+        this.id = id;
+        String namespace = KEY_PREFIX + "{" + id + "}:";
+        this.generationKey = Collections.singletonList(namespace + "generation");
+        this.entryKeyPrefix = namespace.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * bind the redis infrastructure shared by all mybatis redis caches.
+     * @param template      redis template, use string key serializer
+     * @param serializer    value serializer, must keep type information to restore mybatis result objects
+     */
+    public static void bind(RedisTemplate<Object, Object> template, RedisSerializer<Object> serializer) {
+        valueSerializer = serializer;
+        redisTemplate = template;
+        log.info("mybatis redis cache bind to redis template successful.");
+    }
+
+    /**
+     * entry ttl in milliseconds, can be customized by <code>@Property(name = "timeToLive", value = "...")</code>.
+     * @param timeToLive ttl in milliseconds
+     */
+    public void setTimeToLive(long timeToLive) {
+        if (timeToLive <= 0L)
+            throw new IllegalArgumentException("timeToLive must be greater than 0");
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public String getId() {
+        return this.id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        RedisTemplate<Object, Object> template = redisTemplate;
+        // TransactionalCache put null value for missed entries, no need to store them
+        if (template == null || value == null)
+            return;
+        try {
+            template.execute(PUT_SCRIPT, RedisSerializer.byteArray(), null, this.generationKey,
+                    this.entryKeyPrefix, this.serializeKey(key), valueSerializer.serialize(value),
+                    String.valueOf(this.timeToLive).getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.warn("put mybatis cache entry failure, namespace: {}, message: {}", this.id, e.getMessage());
+        }
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        RedisTemplate<Object, Object> template = redisTemplate;
+        if (template == null)
+            return null;
+        try {
+            byte[] value = template.execute(GET_SCRIPT, RedisSerializer.byteArray(), RedisSerializer.byteArray(),
+                    this.generationKey, this.entryKeyPrefix, this.serializeKey(key));
+            return value == null ? null : valueSerializer.deserialize(value);
+        } catch (Exception e) {
+            log.warn("get mybatis cache entry failure, namespace: {}, message: {}", this.id, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        RedisTemplate<Object, Object> template = redisTemplate;
+        if (template == null)
+            return null;
+        try {
+            template.execute(REMOVE_SCRIPT, RedisSerializer.byteArray(), null, this.generationKey,
+                    this.entryKeyPrefix, this.serializeKey(key));
+        } catch (Exception e) {
+            log.warn("remove mybatis cache entry failure, namespace: {}, message: {}", this.id, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * invalidate all entries of current namespace by increasing the generation counter.
+     */
+    @Override
+    public void clear() {
+        RedisTemplate<Object, Object> template = redisTemplate;
+        if (template == null)
+            return;
+        try {
+            template.opsForValue().increment(this.generationKey.get(0));
+        } catch (Exception e) {
+            log.error("clear mybatis cache failure, namespace: {}, message: {}", this.id, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * entries of a namespace can't be counted without key scanning, and counting them on put can't observe
+     * ttl expiration, so always return 0. <br/>
+     * mybatis only reports the size: custom cache implementations are wrapped by LoggingCache alone, eviction
+     * decorators are never applied, entries are evicted by their ttl.
+     * @return 0
+     */
+    @Override
+    public int getSize() {
+        return 0;
+    }
+
+    /**
+     * hex encoded sha-256 digest of the cache key string.
+     */
+    private byte[] serializeKey(Object key) {
+        byte[] digest;
+        try {
+            digest = MessageDigest.getInstance(KEY_DIGEST_ALGORITHM).digest(String.valueOf(key).getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            // every java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+        byte[] hex = new byte[digest.length * 2];
+        for (int i = 0; i < digest.length; i++) {
+            hex[i * 2] = (byte) HEX_DIGITS[(digest[i] >> 4) & 0xF];
+            hex[i * 2 + 1] = (byte) HEX_DIGITS[digest[i] & 0xF];
+        }
+        return hex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof Cache))
+            return false;
+        return this.id.equals(((Cache) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return this.id.hashCode();
+    }
+}
@@ -6,13 +6,33 @@ import com.baomidou.mybatisplus.core.handlers.MetaObjectHandler;
 import com.baomidou.mybatisplus.extension.plugins.MybatisPlusInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.BlockAttackInnerInterceptor;
 import com.baomidou.mybatisplus.extension.plugins.inner.PaginationInnerInterceptor;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.naivekyo.cache.MybatisRedisCache;
+import io.naivekyo.core.support.CachedClock;
+import io.naivekyo.interceptor.SqlMetricsInterceptor;
+import io.naivekyo.interceptor.SqlStatementScopeFilter;
 import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 
 import javax.sql.DataSource;
 import java.time.LocalDateTime;
@@ -26,9 +46,10 @@ import java.time.LocalDateTime;
  */
 @ConditionalOnClass({SqlSessionFactory.class, SqlSessionFactoryBean.class})
 @ConditionalOnSingleCandidate(DataSource.class)
-@AutoConfiguration(before = MybatisPlusAutoConfiguration.class)
+@AutoConfiguration(before = MybatisPlusAutoConfiguration.class, after = DataSourceAutoConfiguration.class,
+        afterName = "io.naivekyo.config.EnhancedRedisCacheAutoConfiguration")
 public class EnhancedMybatisPlusAutoConfiguration {
-    
+
     @Bean
     public MybatisPlusInterceptor mybatisPlusInterceptor() {
         MybatisPlusInterceptor interceptor = new MybatisPlusInterceptor();
@@ -50,15 +71,72 @@ public class EnhancedMybatisPlusAutoConfiguration {
         @Override
         public void insertFill(MetaObject metaObject) {
             // auto generate table fields while exec insert statement: create_time, update_time
-            // used with @TableField(fill = xxx) annotation
-            this.strictInsertFill(metaObject, "createTime", LocalDateTime::now, LocalDateTime.class);
-            this.strictInsertFill(metaObject, "updateTime", LocalDateTime::now, LocalDateTime.class);
+            // used with @TableField(fill = xxx) annotation, second resolution time from CachedClock
+            this.strictInsertFill(metaObject, "createTime", CachedClock::now, LocalDateTime.class);
+            this.strictInsertFill(metaObject, "updateTime", CachedClock::now, LocalDateTime.class);
         }
 
         @Override
         public void updateFill(MetaObject metaObject) {
             // used with @TableField(fill = xxx) annotation
-            this.strictUpdateFill(metaObject, "updateTime", LocalDateTime::now, LocalDateTime.class);
+            this.strictUpdateFill(metaObject, "updateTime", CachedClock::now, LocalDateTime.class);
+        }
+    }
+
+    /**
+     * mapped statement metrics, disabled by default so that no interceptor is registered.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    @ConditionalOnProperty(prefix = "naivekyo.mybatis-plus.sql-metrics", name = "enabled", havingValue = "true")
+    @EnableConfigurationProperties(SqlMetricsProperties.class)
+    static class SqlMetricsConfiguration {
+
+        @Bean
+        public SqlMetricsInterceptor sqlMetricsInterceptor(SqlMetricsProperties properties,
+                                                           ObjectProvider<MeterRegistry> meterRegistryProvider) {
+            MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(() -> Metrics.globalRegistry);
+            return new SqlMetricsInterceptor(meterRegistry, properties.getSlowThreshold(),
+                    properties.getRepeatThreshold(), properties.isPercentilesHistogram());
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+        static class SqlStatementScopeConfiguration {
+
+            @Bean
+            public SqlStatementScopeFilter sqlStatementScopeFilter() {
+                return new SqlStatementScopeFilter();
+            }
+        }
+    }
+
+    /**
+     * bind {@link MybatisRedisCache} to the redis infrastructure of redis-cache-support module.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RedisOperations.class)
+    static class MybatisRedisCacheConfiguration {
+
+        private static final Logger log = LoggerFactory.getLogger(MybatisRedisCacheConfiguration.class);
+
+        @Bean
+        public SmartInitializingSingleton mybatisRedisCacheInitializer(ObjectProvider<RedisTemplate<Object, Object>> redisTemplateProvider,
+                                                                       ObjectProvider<ObjectMapper> objectMapperProvider) {
+            return () -> {
+                RedisTemplate<Object, Object> redisTemplate = redisTemplateProvider.getIfAvailable();
+                ObjectMapper objectMapper = objectMapperProvider.getIfAvailable();
+                if (redisTemplate == null || objectMapper == null) {
+                    log.warn("no meeting RedisTemplate or ObjectMapper bean within spring context, mybatis redis cache is disabled.");
+                    return;
+                }
+                // mybatis cache entries are restored to entity objects, so the serializer must keep type information,
+                // copy the configured ObjectMapper to share its date formats and modules.
+                ObjectMapper typedObjectMapper = objectMapper.copy();
+                typedObjectMapper.activateDefaultTyping(typedObjectMapper.getPolymorphicTypeValidator(),
+                        ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+                MybatisRedisCache.bind(redisTemplate, new GenericJackson2JsonRedisSerializer(typedObjectMapper));
+            };
         }
     }
 }
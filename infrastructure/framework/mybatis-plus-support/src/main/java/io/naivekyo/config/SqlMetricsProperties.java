@@ -0,0 +1,68 @@
+package io.naivekyo.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * <p>
+ *     sql statement metrics configuration properties.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@ConfigurationProperties(prefix = "naivekyo.mybatis-plus.sql-metrics")
+public class SqlMetricsProperties {
+
+    /**
+     * whether to record mapped statement metrics, interceptor is not registered when disabled.
+     */
+    private boolean enabled = false;
+
+    /**
+     * statements executed longer than this threshold are logged with their bound parameters.
+     */
+    private Duration slowThreshold = Duration.ofSeconds(1);
+
+    /**
+     * warn when the same statement runs this many times within one request (N+1 query).
+     */
+    private int repeatThreshold = 20;
+
+    /**
+     * whether to publish percentile histogram buckets of statement latency.
+     */
+    private boolean percentilesHistogram = true;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getSlowThreshold() {
+        return slowThreshold;
+    }
+
+    public void setSlowThreshold(Duration slowThreshold) {
+        this.slowThreshold = slowThreshold;
+    }
+
+    public int getRepeatThreshold() {
+        return repeatThreshold;
+    }
+
+    public void setRepeatThreshold(int repeatThreshold) {
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    public boolean isPercentilesHistogram() {
+        return percentilesHistogram;
+    }
+
+    public void setPercentilesHistogram(boolean percentilesHistogram) {
+        this.percentilesHistogram = percentilesHistogram;
+    }
+}
@@ -0,0 +1,245 @@
+package io.naivekyo.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.apache.ibatis.type.TypeHandlerRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ *     Mybatis plugin which records per mapped statement metrics: <br/>
+ *     mybatis.statement (latency), mybatis.statement.rows (rows returned or affected),
+ *     mybatis.statement.batch.size (batch flush size), mybatis.statement.repeated (N+1 query detection).
+ * </p>
+ * <p>
+ *     Mybatis-Plus {@code InnerInterceptor} has no callback after statement execution,
+ *     so latency is measured by a plain {@link Interceptor} around {@link Executor}. <br/>
+ *     statements slower than the threshold are logged with their bound parameters, failed statements are
+ *     recorded with the exception tag.
+ * </p>
+ * <p>
+ *     the repeat detection only works within a scope opened by {@link #openScope()}, e.g. a servlet request.
+ *     the scope is a plain thread local of the thread that opened it: statements executed on other threads
+ *     ({@code @Async} methods, parallel streams, offloaded handler methods, async dispatches) are not counted.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query", args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class, CacheKey.class, BoundSql.class}),
+        @Signature(type = Executor.class, method = "update", args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "flushStatements", args = {})
+})
+public class SqlMetricsInterceptor implements Interceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlMetricsInterceptor.class);
+
+    private static final String STATEMENT_METRIC = "mybatis.statement";
+
+    private static final String ROWS_METRIC = "mybatis.statement.rows";
+
+    private static final String BATCH_SIZE_METRIC = "mybatis.statement.batch.size";
+
+    private static final String REPEATED_METRIC = "mybatis.statement.repeated";
+
+    // statement execution counts of current scope, null means no scope was opened
+    private static final ThreadLocal<Map<String, int[]>> STATEMENT_COUNTS = new ThreadLocal<>();
+
+    private final Map<String, StatementMeters> metersCache = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry;
+
+    private final long slowThresholdNanos;
+
+    private final int repeatThreshold;
+
+    private final boolean percentilesHistogram;
+
+    public SqlMetricsInterceptor(MeterRegistry meterRegistry, Duration slowThreshold, int repeatThreshold, boolean percentilesHistogram) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.repeatThreshold = repeatThreshold;
+        this.percentilesHistogram = percentilesHistogram;
+    }
+
+    /**
+     * open a repeat detection scope for current thread, must be paired with {@link #closeScope()}.
+     */
+    public static void openScope() {
+        STATEMENT_COUNTS.set(new HashMap<>());
+    }
+
+    /**
+     * close the repeat detection scope of current thread.
+     */
+    public static void closeScope() {
+        STATEMENT_COUNTS.remove();
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object[] args = invocation.getArgs();
+        if (args.length == 0)
+            return this.interceptFlush(invocation);
+
+        MappedStatement ms = (MappedStatement) args[0];
+        StatementMeters meters = this.metersCache.computeIfAbsent(ms.getId(), id -> new StatementMeters(ms));
+        this.detectRepeat(ms, meters);
+
+        long begin = System.nanoTime();
+        Object result;
+        Throwable failure = null;
+        long elapsed;
+        try {
+            result = invocation.proceed();
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            elapsed = System.nanoTime() - begin;
+            meters.timer(failure).record(elapsed, TimeUnit.NANOSECONDS);
+        }
+
+        if (result instanceof Collection) {
+            meters.rows.record(((Collection<?>) result).size());
+        } else if (result instanceof Integer && (Integer) result >= 0) {
+            // batch executor return a negative placeholder instead of affected rows
+            meters.rows.record((Integer) result);
+        }
+        if (elapsed >= this.slowThresholdNanos) {
+            BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : ms.getBoundSql(args[1]);
+            log.warn("slow sql statement: {}, cost: {} ms, sql: {}, parameters: {}", ms.getId(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), boundSql.getSql().replaceAll("\\s+", " "),
+                    formatParameters(ms.getConfiguration(), boundSql));
+        }
+        return result;
+    }
+
+    private Object interceptFlush(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (result instanceof List) {
+            for (Object item : (List<?>) result) {
+                BatchResult batchResult = (BatchResult) item;
+                DistributionSummary.builder(BATCH_SIZE_METRIC)
+                        .tag("statement", batchResult.getMappedStatement().getId())
+                        .register(this.meterRegistry)
+                        .record(batchResult.getParameterObjects().size());
+            }
+        }
+        return result;
+    }
+
+    private void detectRepeat(MappedStatement ms, StatementMeters meters) {
+        Map<String, int[]> counts = STATEMENT_COUNTS.get();
+        if (counts == null)
+            return;
+        int[] count = counts.computeIfAbsent(ms.getId(), id -> new int[1]);
+        // only report once per scope
+        if (++count[0] == this.repeatThreshold) {
+            meters.repeated().increment();
+            log.warn("sql statement {} was executed {} times within one request, maybe N+1 query.", ms.getId(), this.repeatThreshold);
+        }
+    }
+
+    private static String formatParameters(Configuration configuration, BoundSql boundSql) {
+        List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+        if (parameterMappings == null || parameterMappings.isEmpty())
+            return "[]";
+        Object parameterObject = boundSql.getParameterObject();
+        TypeHandlerRegistry typeHandlerRegistry = configuration.getTypeHandlerRegistry();
+        MetaObject metaObject = null;
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        // same resolution order as DefaultParameterHandler
+        for (ParameterMapping parameterMapping : parameterMappings) {
+            if (parameterMapping.getMode() == ParameterMode.OUT)
+                continue;
+            String property = parameterMapping.getProperty();
+            Object value;
+            if (boundSql.hasAdditionalParameter(property)) {
+                value = boundSql.getAdditionalParameter(property);
+            } else if (parameterObject == null) {
+                value = null;
+            } else if (typeHandlerRegistry.hasTypeHandler(parameterObject.getClass())) {
+                value = parameterObject;
+            } else {
+                if (metaObject == null)
+                    metaObject = configuration.newMetaObject(parameterObject);
+                value = metaObject.getValue(property);
+            }
+            joiner.add(String.valueOf(value));
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * meters of one mapped statement, cached to avoid meter lookup on every execution.
+     */
+    private final class StatementMeters {
+
+        final String statement;
+
+        final String command;
+
+        final Timer timer;
+
+        final DistributionSummary rows;
+
+        Timer timer(Throwable failure) {
+            if (failure == null)
+                return this.timer;
+            return Timer.builder(STATEMENT_METRIC)
+                    .tag("statement", this.statement)
+                    .tag("command", this.command)
+                    .tag("exception", failure.getClass().getSimpleName())
+                    .publishPercentileHistogram(percentilesHistogram)
+                    .register(meterRegistry);
+        }
+
+        StatementMeters(MappedStatement ms) {
+            this.statement = ms.getId();
+            this.command = ms.getSqlCommandType().name();
+            this.timer = Timer.builder(STATEMENT_METRIC)
+                    .tag("statement", this.statement)
+                    .tag("command", this.command)
+                    .tag("exception", "none")
+                    .publishPercentileHistogram(percentilesHistogram)
+                    .register(meterRegistry);
+            this.rows = DistributionSummary.builder(ROWS_METRIC)
+                    .tag("statement", this.statement)
+                    .tag("command", this.command)
+                    .register(meterRegistry);
+        }
+
+        Counter repeated() {
+            return meterRegistry.counter(REPEATED_METRIC, "statement", this.statement);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package io.naivekyo.interceptor;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import java.io.IOException;
+
+/**
+ * <p>
+ *     open a {@link SqlMetricsInterceptor} repeat detection scope for every servlet request. <br/>
+ *     the scope is bound to the container thread, statements executed on other threads are not counted.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+public class SqlStatementScopeFilter implements Filter {
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        SqlMetricsInterceptor.openScope();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlMetricsInterceptor.closeScope();
+        }
+    }
+}
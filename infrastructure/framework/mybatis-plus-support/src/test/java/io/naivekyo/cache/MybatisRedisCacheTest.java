@@ -0,0 +1,181 @@
+package io.naivekyo.cache;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * <p>
+ *     generation counter invalidation of {@link MybatisRedisCache}, against an in-memory template which evaluates
+ *     the lua scripts the way redis does.
+ * </p>
+ * @author NaiveKyo
+ * @since 1.0
+ */
+class MybatisRedisCacheTest {
+
+    private static final String USER_NAMESPACE = "io.naivekyo.mapper.UserMapper";
+
+    private static final String ORDER_NAMESPACE = "io.naivekyo.mapper.OrderMapper";
+
+    private InMemoryRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void bind() {
+        this.redisTemplate = new InMemoryRedisTemplate();
+        MybatisRedisCache.bind(this.redisTemplate, RedisSerializer.java());
+    }
+
+    @Test
+    void entryKeyIsHashedWithinNamespaceHashTag() {
+        MybatisRedisCache cache = new MybatisRedisCache(USER_NAMESPACE);
+        cache.putObject(cacheKey("selectById", 1L), "user-1");
+
+        String entryKey = this.redisTemplate.entries.keySet().iterator().next();
+        assertTrue(entryKey.matches("mybatis:cache:\\{" + USER_NAMESPACE + "}:0:[0-9a-f]{64}"), entryKey);
+        assertEquals("user-1", cache.getObject(cacheKey("selectById", 1L)));
+        assertNull(cache.getObject(cacheKey("selectById", 2L)));
+    }
+
+    @Test
+    void clearInvalidatesOnlyItsOwnNamespace() {
+        MybatisRedisCache userCache = new MybatisRedisCache(USER_NAMESPACE);
+        MybatisRedisCache orderCache = new MybatisRedisCache(ORDER_NAMESPACE);
+        userCache.putObject(cacheKey("selectById", 1L), "user-1");
+        orderCache.putObject(cacheKey("selectById", 1L), "order-1");
+
+        userCache.clear();
+
+        assertNull(userCache.getObject(cacheKey("selectById", 1L)));
+        assertEquals("order-1", orderCache.getObject(cacheKey("selectById", 1L)));
+        // no key scanning, the previous generation is left to its ttl
+        assertEquals(2, this.redisTemplate.entries.size());
+        assertEquals(1L, this.redisTemplate.counters.get("mybatis:cache:{" + USER_NAMESPACE + "}:generation"));
+    }
+
+    @Test
+    void putAfterClearIsVisibleInNewGeneration() {
+        MybatisRedisCache cache = new MybatisRedisCache(USER_NAMESPACE);
+        cache.putObject(cacheKey("selectById", 1L), "user-1");
+        cache.clear();
+        cache.clear();
+        cache.putObject(cacheKey("selectById", 1L), "user-1-updated");
+
+        assertEquals("user-1-updated", cache.getObject(cacheKey("selectById", 1L)));
+        Set<String> generations = this.redisTemplate.entries.keySet().stream()
+                .map(key -> key.split(":")[3])
+                .collect(Collectors.toSet());
+        assertEquals(new HashSet<>(Arrays.asList("0", "2")), generations);
+        // a new cache instance of the same namespace shares the generation counter
+        assertEquals("user-1-updated", new MybatisRedisCache(USER_NAMESPACE).getObject(cacheKey("selectById", 1L)));
+    }
+
+    @Test
+    void removeOnlyTouchesCurrentGeneration() {
+        MybatisRedisCache cache = new MybatisRedisCache(USER_NAMESPACE);
+        cache.putObject(cacheKey("selectById", 1L), "user-1");
+        cache.clear();
+        cache.putObject(cacheKey("selectById", 1L), "user-1-updated");
+
+        cache.removeObject(cacheKey("selectById", 1L));
+
+        assertNull(cache.getObject(cacheKey("selectById", 1L)));
+        assertEquals(1, this.redisTemplate.entries.size());
+        assertTrue(this.redisTemplate.entries.keySet().iterator().next().contains("}:0:"));
+    }
+
+    @Test
+    void nullValuesAreNotStored() {
+        MybatisRedisCache cache = new MybatisRedisCache(USER_NAMESPACE);
+        cache.putObject(cacheKey("selectById", 1L), null);
+
+        assertTrue(this.redisTemplate.entries.isEmpty());
+    }
+
+    @Test
+    void redisFailureIsCacheMiss() {
+        MybatisRedisCache cache = new MybatisRedisCache(USER_NAMESPACE);
+        cache.putObject(cacheKey("selectById", 1L), "user-1");
+        this.redisTemplate.failure = new RedisConnectionFailureException("connection refused");
+
+        assertNull(cache.getObject(cacheKey("selectById", 1L)));
+        cache.putObject(cacheKey("selectById", 2L), "user-2");
+        cache.removeObject(cacheKey("selectById", 1L));
+        cache.clear();
+
+        this.redisTemplate.failure = null;
+        assertEquals("user-1", cache.getObject(cacheKey("selectById", 1L)));
+    }
+
+    private static CacheKey cacheKey(String statement, Object parameter) {
+        return new CacheKey(new Object[]{USER_NAMESPACE + "." + statement, "select * from t where id = ?", parameter});
+    }
+
+    /**
+     * keeps entries and generation counters in maps, the scripts of {@link MybatisRedisCache} are recognized
+     * by the command they run on the entry key, ttl is ignored.
+     */
+    static class InMemoryRedisTemplate extends RedisTemplate<Object, Object> {
+
+        final Map<String, byte[]> entries = new HashMap<>();
+
+        final Map<String, Long> counters = new HashMap<>();
+
+        RuntimeException failure;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, RedisSerializer<?> argsSerializer, RedisSerializer<T> resultSerializer,
+                             List<Object> keys, Object... args) {
+            if (this.failure != null)
+                throw this.failure;
+            String generation = String.valueOf(this.counters.getOrDefault((String) keys.get(0), 0L));
+            String entryKey = text(args[0]) + generation + ":" + text(args[1]);
+            String source = script.getScriptAsString();
+            if (source.contains("'SET'")) {
+                this.entries.put(entryKey, (byte[]) args[2]);
+                return (T) Long.valueOf(1L);
+            }
+            if (source.contains("'DEL'"))
+                return (T) Long.valueOf(this.entries.remove(entryKey) == null ? 0L : 1L);
+            return (T) this.entries.get(entryKey);
+        }
+
+        @Override
+        public ValueOperations<Object, Object> opsForValue() {
+            @SuppressWarnings("unchecked")
+            ValueOperations<Object, Object> operations = mock(ValueOperations.class);
+            when(operations.increment(any())).thenAnswer(invocation -> {
+                if (this.failure != null)
+                    throw this.failure;
+                return this.counters.merge((String) invocation.getArgument(0), 1L, Long::sum);
+            });
+            return operations;
+        }
+
+        private static String text(Object arg) {
+            return new String((byte[]) arg, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -68,14 +68,15 @@ public class EnhancedRedisCacheAutoConfiguration {
     public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(
             ObjectProvider<CacheProperties> cachePropertiesProvider,
             ObjectProvider<ObjectMapper> objectMapperProvider) {
-        CacheProperties cacheProperties = cachePropertiesProvider.getIfAvailable();
-        ObjectMapper objectMapper = objectMapperProvider.getIfAvailable();
-        if (cacheProperties == null)
-            throw new BeanCreationException("can't get CacheProperties to creating RedisCacheManagerBuilderCustomizer bean!");
-        if (objectMapper == null)
-            throw new BeanCreationException("can't creating RedisCacheManagerBuilderCustomizer bean since no meeting ObjectMapper Bean within spring context!");
-
+        // resolved when the cache manager is built instead of at startup, CacheProperties only exists
+        // if cache auto-configuration applies.
         return builder -> {
+            CacheProperties cacheProperties = cachePropertiesProvider.getIfAvailable();
+            ObjectMapper objectMapper = objectMapperProvider.getIfAvailable();
+            if (cacheProperties == null)
+                throw new BeanCreationException("can't get CacheProperties to customize RedisCacheManager!");
+            if (objectMapper == null)
+                throw new BeanCreationException("can't customize RedisCacheManager since no meeting ObjectMapper Bean within spring context!");
             RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig();
             config = config.serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)));
             CacheProperties.Redis redisProperties = cacheProperties.getRedis();